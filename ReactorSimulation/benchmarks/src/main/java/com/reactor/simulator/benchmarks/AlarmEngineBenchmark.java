@@ -0,0 +1,56 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.AlarmEngine;
+import com.reactor.simulator.AlarmRule;
+import com.reactor.simulator.AlarmSignal;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One evaluation of N random alarm rules (one to three conditions each, some delayed or latching)
+ * against a slowly varying plant state. Should stay allocation-free for any N.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AlarmEngineBenchmark {
+    @Param({"10", "1000", "5000"})
+    public int rules;
+
+    private AlarmEngine engine;
+    private long tick;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        AlarmSignal[] signals = AlarmSignal.values();
+        List<AlarmRule> list = new ArrayList<>(rules);
+        for (int i = 0; i < rules; i++) {
+            AlarmRule rule = new AlarmRule("rule-" + i).setLatching(i % 7 == 0).setDelaySeconds(i % 3);
+            int conditions = 1 + rnd.nextInt(3);
+            for (int c = 0; c < conditions; c++) {
+                AlarmSignal s = signals[rnd.nextInt(signals.length)];
+                if (rnd.nextBoolean()) rule.above(s, rnd.nextDouble(600.0), 1.0);
+                else rule.below(s, rnd.nextDouble(600.0), 1.0);
+            }
+            list.add(rule);
+        }
+        engine = new AlarmEngine(list, Fixtures.DT);
+        tick = 0;
+    }
+
+    @Benchmark
+    public int evaluate() {
+        long t = tick++;
+        double phase = (t % 10_000) * 6.283185307179586 / 10_000;
+        return engine.evaluate(t * Fixtures.DT, 300.0 + 300.0 * Math.sin(phase), 290.0 + 50.0 * Math.cos(phase),
+                0.5, 100.0 + 100.0 * Math.sin(2 * phase));
+    }
+}
@@ -0,0 +1,54 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.CoolantModel;
+import com.reactor.simulator.ReactorModel;
+import com.reactor.simulator.SimulationController;
+import com.reactor.simulator.SimulationEngine;
+import com.reactor.simulator.TelemetryStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Engine tick with the controller's per-sample work attached: the telemetry append and the safety
+ * check. Runs headless (no Dashboard). The store is truncated periodically so its chunks are reused
+ * and the measurement does not turn into a memory-growth test.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ControllerRecordingBenchmark {
+    private static final int ROWS_BEFORE_TRUNCATE = 1 << 20;
+
+    private SimulationEngine engine;
+    private SimulationController controller;
+    private TelemetryStore telemetry;
+    private int rows;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ReactorModel reactor = Fixtures.reactor();
+        CoolantModel coolant = Fixtures.coolant();
+        engine = new SimulationEngine(reactor, coolant, Fixtures.DT);
+        controller = new SimulationController(engine, reactor, coolant, null);
+        telemetry = controller.getTelemetry();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        controller.shutdown();
+    }
+
+    @Benchmark
+    public long recordSample() {
+        engine.advance();
+        if (++rows == ROWS_BEFORE_TRUNCATE) {
+            telemetry.truncate(0);
+            rows = 0;
+        }
+        return telemetry.size();
+    }
+}
@@ -0,0 +1,61 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.CSVExporter;
+import com.reactor.simulator.DoubleFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CSVExporter#writeLine} into a temporary file, and the number formatting on its own with
+ * {@code String.format} as the baseline it replaced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CsvExportBenchmark {
+    private File file;
+    private CSVExporter exporter;
+    private final StringBuilder sb = new StringBuilder(128);
+    private double t;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        file = File.createTempFile("reactor-bench", ".csv");
+        exporter = new CSVExporter(file);
+        exporter.open();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        exporter.close();
+        file.delete();
+    }
+
+    @Benchmark
+    public void writeLine() throws IOException {
+        t += Fixtures.DT;
+        exporter.writeLine(t, 512.345678 + t * 1e-6, 301.25 - t * 1e-6);
+    }
+
+    @Benchmark
+    public int formatLine() {
+        t += Fixtures.DT;
+        sb.setLength(0);
+        DoubleFormat.append(sb, t, 6).append(',');
+        DoubleFormat.append(sb, 512.345678 + t * 1e-6, 6).append(',');
+        DoubleFormat.append(sb, 301.25 - t * 1e-6, 6).append('\n');
+        return sb.length();
+    }
+
+    @Benchmark
+    public int formatLineStringFormatBaseline() {
+        t += Fixtures.DT;
+        return String.format("%.6f,%.6f,%.6f%n", t, 512.345678 + t * 1e-6, 301.25 - t * 1e-6).length();
+    }
+}
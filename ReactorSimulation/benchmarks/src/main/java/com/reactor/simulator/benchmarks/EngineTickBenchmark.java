@@ -0,0 +1,51 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.SimulationEngine;
+import com.reactor.simulator.SimulationListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full real-time tick minus the pacing sleep: integration, feed publication and synchronous
+ * dispatch to N listeners. Should stay allocation-free for any N.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineTickBenchmark {
+    @Param({"0", "1", "4", "16"})
+    public int listeners;
+
+    private SimulationEngine engine;
+
+    // stands in for a cheap real listener; the sum keeps the call from being optimised away
+    public static final class SummingListener implements SimulationListener {
+        double sum;
+
+        @Override
+        public void onUpdate(double coreTemp, double coolantTemp) {
+            sum += coreTemp;
+        }
+
+        @Override
+        public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+            sum += coreTemp - coolantTemp + rodPosition;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        engine = new SimulationEngine(Fixtures.reactor(), Fixtures.coolant(), Fixtures.DT);
+        for (int i = 0; i < listeners; i++) engine.addListener(new SummingListener());
+    }
+
+    @Benchmark
+    public long tick() {
+        engine.advance();
+        return engine.getTick();
+    }
+}
@@ -0,0 +1,68 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.CoolantModel;
+import com.reactor.simulator.EnsembleKernel;
+import com.reactor.simulator.ReactorModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One step of {@code pairs} reactor/coolant pairs: as model objects, through the scalar
+ * {@link EnsembleKernel}, and through {@link EnsembleKernel#create} (the SIMD kernel, since the fork
+ * adds the vector module). Divide by {@code pairs} for the cost of a pair-step.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class EnsembleKernelBenchmark {
+    @Param({"1024", "16384"})
+    public int pairs;
+
+    private ReactorModel[] reactors;
+    private CoolantModel[] coolants;
+    private EnsembleKernel scalarKernel;
+    private EnsembleKernel vectorKernel;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        reactors = new ReactorModel[pairs];
+        coolants = new CoolantModel[pairs];
+        scalarKernel = EnsembleKernel.createScalar(pairs);
+        vectorKernel = EnsembleKernel.create(pairs);
+        for (int i = 0; i < pairs; i++) {
+            // a spread of operating points, as in a parameter sweep
+            double f = (double) i / Math.max(1, pairs - 1);
+            reactors[i] = new ReactorModel(300.0, 1.0e7 + 2.0e7 * f, 5.0e4, 500.0, 1.0e5);
+            coolants[i] = Fixtures.coolant();
+            reactors[i].setControlRodPosition(0.9 - 0.9 * f);
+            coolants[i].setFlowRate(100.0 + 400.0 * ((i * 37) % 101) / 100.0);
+            scalarKernel.load(i, reactors[i], coolants[i]);
+            vectorKernel.load(i, reactors[i], coolants[i]);
+        }
+    }
+
+    @Benchmark
+    public double objects() {
+        for (int i = 0; i < pairs; i++) {
+            reactors[i].update(Fixtures.DT, coolants[i].getCoolantTemp());
+            coolants[i].update(Fixtures.DT, reactors[i].getCoreTemp());
+        }
+        return reactors[pairs - 1].getCoreTemp();
+    }
+
+    @Benchmark
+    public double scalarKernel() {
+        scalarKernel.step(Fixtures.DT);
+        return scalarKernel.getCoreTemp(pairs - 1);
+    }
+
+    @Benchmark
+    public double vectorKernel() {
+        vectorKernel.step(Fixtures.DT);
+        return vectorKernel.getCoreTemp(pairs - 1);
+    }
+}
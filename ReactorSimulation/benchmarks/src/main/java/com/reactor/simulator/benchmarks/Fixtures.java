@@ -0,0 +1,23 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.CoolantModel;
+import com.reactor.simulator.ReactorModel;
+
+/** Models with the application's default parameters, at an operating point that settles rather than diverges. */
+final class Fixtures {
+    static final double DT = 0.5;
+
+    private Fixtures() {}
+
+    static ReactorModel reactor() {
+        ReactorModel r = new ReactorModel(300.0, 1.0e7, 5.0e4, 500.0, 1.0e5);
+        r.setControlRodPosition(0.3);
+        return r;
+    }
+
+    static CoolantModel coolant() {
+        CoolantModel c = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+        c.setFlowRate(200.0);
+        return c;
+    }
+}
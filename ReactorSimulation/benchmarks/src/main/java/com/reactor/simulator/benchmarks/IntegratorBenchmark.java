@@ -0,0 +1,38 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.CoolantModel;
+import com.reactor.simulator.Integrator;
+import com.reactor.simulator.IntegratorType;
+import com.reactor.simulator.ReactorModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** One coupled core/coolant step with each integrator. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntegratorBenchmark {
+    @Param({"EULER", "RK4", "DORMAND_PRINCE", "BACKWARD_EULER", "EXPONENTIAL"})
+    public IntegratorType integratorType;
+
+    private ReactorModel reactor;
+    private CoolantModel coolant;
+    private Integrator integrator;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        reactor = Fixtures.reactor();
+        coolant = Fixtures.coolant();
+        integrator = integratorType.create();
+    }
+
+    @Benchmark
+    public double coupledStep() {
+        integrator.step(reactor, coolant, Fixtures.DT);
+        return reactor.getCoreTemp();
+    }
+}
@@ -0,0 +1,37 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.CoolantModel;
+import com.reactor.simulator.ReactorModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Cost of a single model update, the innermost operation of every engine and ensemble loop. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBenchmark {
+    private ReactorModel reactor;
+    private CoolantModel coolant;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        reactor = Fixtures.reactor();
+        coolant = Fixtures.coolant();
+    }
+
+    @Benchmark
+    public double reactorUpdate() {
+        reactor.update(Fixtures.DT, coolant.getCoolantTemp());
+        return reactor.getCoreTemp();
+    }
+
+    @Benchmark
+    public double coolantUpdate() {
+        coolant.update(Fixtures.DT, reactor.getCoreTemp());
+        return coolant.getCoolantTemp();
+    }
+}
@@ -0,0 +1,36 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.RollingStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One sample into the rolling statistics the engine keeps per tick, for windows of increasing
+ * length; the cost should not grow with the window. Allocation-free.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RollingStatsBenchmark {
+    @Param({"60", "3600", "30000"})
+    public double windowSeconds;
+
+    private RollingStats stats;
+    private long tick;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        stats = new RollingStats(windowSeconds, 5.0, Fixtures.DT);
+        tick = 0;
+    }
+
+    @Benchmark
+    public void add() {
+        long t = ++tick;
+        stats.add(t * Fixtures.DT, 300.0 + 50.0 * Math.sin(t * 1e-3));
+    }
+}
@@ -0,0 +1,48 @@
+package com.reactor.simulator.benchmarks;
+
+import com.reactor.simulator.TimeSeriesWindow;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Dashboard's per-sample chart work: appending to a full 120 s window (evicting the oldest
+ * point), and the min/max range query the plot runs per pixel column.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SeriesUpdateBenchmark {
+    private static final double WINDOW_SECONDS = 120.0;
+
+    @Param({"0.5", "0.01"})
+    public double dt;
+
+    private TimeSeriesWindow window;
+    private double t;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        window = new TimeSeriesWindow(WINDOW_SECONDS, (int) Math.ceil(WINDOW_SECONDS / dt) + 2);
+        for (t = 0; t < WINDOW_SECONDS; t += dt) window.add(t, Math.sin(t));
+    }
+
+    @Benchmark
+    public int appendPoint() {
+        t += dt;
+        window.add(t, Math.sin(t));
+        return window.size();
+    }
+
+    @Benchmark
+    public double appendAndQuery() {
+        t += dt;
+        window.add(t, Math.sin(t));
+        int n = window.size();
+        int from = n - Math.max(1, n / 100);
+        return window.rangeMax(from, n) - window.rangeMin(from, n);
+    }
+}
@@ -0,0 +1,167 @@
+package com.reactor.simulator;
+
+import java.util.List;
+
+/**
+ * A set of {@link AlarmRule}s compiled into flat arrays and evaluated once per tick without
+ * allocating. Conditions are grouped by signal and normalised so that "in alarm" is
+ * {@code sign * signal >= limit}, with one limit for raising and a looser one for staying raised;
+ * evaluation is a straight pass over each signal's conditions followed by an AND per rule.
+ * <p>
+ * {@link #evaluate} and the transition getters belong to the ticking thread; {@link #acknowledgeAll}
+ * may be called from any thread and takes effect on the next evaluation.
+ */
+public class AlarmEngine {
+    private static final AlarmSignal[] SIGNALS = AlarmSignal.values();
+    private static final AlarmRule.Severity[] SEVERITIES = AlarmRule.Severity.values();
+
+    private final AlarmRule[] rules;
+    // conditions sorted by signal: those of signal g are signalStart[g] .. signalStart[g + 1] - 1
+    private final int[] signalStart = new int[SIGNALS.length + 1];
+    private final double[] condSign;
+    // limits in normalised units: to raise, and to stay raised
+    private final double[] condRaise;
+    private final double[] condHold;
+    private final boolean[] condOn;
+    // rule r tests conditions ruleCond[ruleEnd[r - 1]] .. ruleCond[ruleEnd[r] - 1]
+    private final int[] ruleCond;
+    private final int[] ruleEnd;
+    private final int[] delayTicks;
+    private final boolean[] latching;
+    private final int[] severity;
+    private final int[] held;
+    private final boolean[] active;
+    private final int[] activeBySeverity = new int[SEVERITIES.length];
+
+    private final double[] signals = new double[SIGNALS.length];
+    private double prevTime = Double.NaN;
+    private double prevCore;
+    private double prevCoolant;
+
+    // rule index for a raise, ~index for a clear; a rule changes at most once per tick
+    private final int[] transitions;
+    private int transitionCount = 0;
+    private volatile boolean acknowledgeRequested = false;
+
+    public AlarmEngine(List<AlarmRule> ruleList, double dt) {
+        if (!(dt > 0)) throw new IllegalArgumentException("dt must be > 0");
+        rules = ruleList.toArray(new AlarmRule[0]);
+        int conds = 0;
+        for (AlarmRule r : rules) {
+            if (r.getConditions().isEmpty()) throw new IllegalArgumentException("Alarm rule " + r.getName() + " has no conditions");
+            conds += r.getConditions().size();
+        }
+        condSign = new double[conds];
+        condRaise = new double[conds];
+        condHold = new double[conds];
+        condOn = new boolean[conds];
+        ruleCond = new int[conds];
+        ruleEnd = new int[rules.length];
+        delayTicks = new int[rules.length];
+        latching = new boolean[rules.length];
+        severity = new int[rules.length];
+        held = new int[rules.length];
+        active = new boolean[rules.length];
+        transitions = new int[rules.length];
+
+        for (AlarmRule r : rules) {
+            for (AlarmRule.Condition cond : r.getConditions()) signalStart[cond.getSignal().ordinal() + 1]++;
+        }
+        for (int g = 0; g < SIGNALS.length; g++) signalStart[g + 1] += signalStart[g];
+        int[] next = signalStart.clone();
+        int k = 0;
+        for (int r = 0; r < rules.length; r++) {
+            for (AlarmRule.Condition cond : rules[r].getConditions()) {
+                int c = next[cond.getSignal().ordinal()]++;
+                double sign = cond.isAbove() ? 1.0 : -1.0;
+                condSign[c] = sign;
+                condRaise[c] = sign * cond.getThreshold();
+                condHold[c] = sign * cond.getThreshold() - cond.getHysteresis();
+                ruleCond[k++] = c;
+            }
+            ruleEnd[r] = k;
+            // held counts the ticks the conditions have been true, including the first
+            delayTicks[r] = 1 + (int) Math.ceil(rules[r].getDelaySeconds() / dt - 1e-9);
+            latching[r] = rules[r].isLatching();
+            severity[r] = rules[r].getSeverity().ordinal();
+        }
+    }
+
+    /** Evaluates every rule against one sample; returns the number of alarms raised or cleared by it. */
+    public int evaluate(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+        double[] s = signals;
+        double elapsed = simTime - prevTime;
+        boolean hasRate = elapsed > 0; // false on the first sample (prevTime is NaN) or after a jump back
+        s[AlarmSignal.CORE_TEMP.ordinal()] = coreTemp;
+        s[AlarmSignal.COOLANT_TEMP.ordinal()] = coolantTemp;
+        s[AlarmSignal.ROD_POSITION.ordinal()] = rodPosition;
+        s[AlarmSignal.FLOW_RATE.ordinal()] = flowRate;
+        s[AlarmSignal.CORE_TEMP_RATE.ordinal()] = hasRate ? (coreTemp - prevCore) / elapsed : 0.0;
+        s[AlarmSignal.COOLANT_TEMP_RATE.ordinal()] = hasRate ? (coolantTemp - prevCoolant) / elapsed : 0.0;
+        s[AlarmSignal.CORE_COOLANT_DELTA.ordinal()] = coreTemp - coolantTemp;
+        prevTime = simTime;
+        prevCore = coreTemp;
+        prevCoolant = coolantTemp;
+
+        double[] sign = condSign;
+        double[] raise = condRaise;
+        double[] hold = condHold;
+        boolean[] on = condOn;
+        for (int g = 0; g < SIGNALS.length; g++) {
+            double x = s[g];
+            for (int c = signalStart[g], end = signalStart[g + 1]; c < end; c++) {
+                double v = sign[c] * x;
+                on[c] = v >= raise[c] | (on[c] & v >= hold[c]);
+            }
+        }
+
+        boolean ack = acknowledgeRequested;
+        if (ack) acknowledgeRequested = false;
+        int[] cond = ruleCond;
+        int n = 0;
+        int k = 0;
+        for (int r = 0; r < ruleEnd.length; r++) {
+            boolean all = true;
+            int end = ruleEnd[r];
+            for (; k < end; k++) all &= on[cond[k]];
+            int h = all ? Math.min(held[r] + 1, Integer.MAX_VALUE - 1) : 0;
+            held[r] = h;
+            boolean was = active[r];
+            boolean now = h >= delayTicks[r] | (latching[r] & was & !ack);
+            if (now != was) {
+                active[r] = now;
+                activeBySeverity[severity[r]] += now ? 1 : -1;
+                transitions[n++] = now ? r : ~r;
+            }
+        }
+        transitionCount = n;
+        return n;
+    }
+
+    public int getRuleCount() { return rules.length; }
+    public AlarmRule getRule(int index) { return rules[index]; }
+    public boolean isActive(int index) { return active[index]; }
+
+    /** Number of raises and clears from the last {@link #evaluate}. */
+    public int getTransitionCount() { return transitionCount; }
+    /** The rule behind transition {@code i} of the last {@link #evaluate}. */
+    public AlarmRule getTransitionRule(int i) {
+        int t = transitions[i];
+        return rules[t >= 0 ? t : ~t];
+    }
+    /** Whether transition {@code i} raised its alarm (false: cleared it). */
+    public boolean isTransitionRaise(int i) { return transitions[i] >= 0; }
+
+    public int getActiveCount(AlarmRule.Severity s) { return activeBySeverity[s.ordinal()]; }
+
+    /** The most severe raised alarm level, or null when nothing is raised. */
+    public AlarmRule.Severity getHighestActiveSeverity() {
+        for (int i = SEVERITIES.length - 1; i >= 0; i--) {
+            if (activeBySeverity[i] > 0) return SEVERITIES[i];
+        }
+        return null;
+    }
+
+    /** Releases latched alarms whose conditions no longer hold, at the next evaluation. */
+    public void acknowledgeAll() { acknowledgeRequested = true; }
+}
@@ -0,0 +1,92 @@
+package com.reactor.simulator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An alarm definition: one or more threshold conditions that must all hold, optionally for a
+ * minimum time, before the alarm is raised. Each condition has a hysteresis band so a signal
+ * hovering at the limit does not flap. A latching alarm stays raised until acknowledged; a trip
+ * alarm makes the controller SCRAM. Rules are compiled into an {@link AlarmEngine}.
+ */
+public class AlarmRule {
+    public enum Severity { CAUTION, CRITICAL }
+
+    /** {@code signal} above (or below) {@code threshold}; it clears {@code hysteresis} back inside the limit. */
+    public static final class Condition {
+        private final AlarmSignal signal;
+        private final boolean above;
+        private final double threshold;
+        private final double hysteresis;
+
+        Condition(AlarmSignal signal, boolean above, double threshold, double hysteresis) {
+            if (signal == null) throw new IllegalArgumentException("signal");
+            if (hysteresis < 0) throw new IllegalArgumentException("hysteresis < 0");
+            this.signal = signal;
+            this.above = above;
+            this.threshold = threshold;
+            this.hysteresis = hysteresis;
+        }
+
+        public AlarmSignal getSignal() { return signal; }
+        public boolean isAbove() { return above; }
+        public double getThreshold() { return threshold; }
+        public double getHysteresis() { return hysteresis; }
+    }
+
+    private final String name;
+    private Severity severity = Severity.CAUTION;
+    private final List<Condition> conditions = new ArrayList<>();
+    private double delaySeconds = 0.0;
+    private boolean latching = false;
+    private boolean trip = false;
+
+    public AlarmRule(String name) {
+        if (name == null || name.isEmpty()) throw new IllegalArgumentException("name");
+        this.name = name;
+    }
+
+    public AlarmRule above(AlarmSignal signal, double threshold, double hysteresis) {
+        conditions.add(new Condition(signal, true, threshold, hysteresis));
+        return this;
+    }
+
+    public AlarmRule below(AlarmSignal signal, double threshold, double hysteresis) {
+        conditions.add(new Condition(signal, false, threshold, hysteresis));
+        return this;
+    }
+
+    public String getName() { return name; }
+    public List<Condition> getConditions() { return Collections.unmodifiableList(conditions); }
+
+    public Severity getSeverity() { return severity; }
+    public AlarmRule setSeverity(Severity severity) {
+        if (severity == null) throw new IllegalArgumentException("severity");
+        this.severity = severity;
+        return this;
+    }
+
+    /** How long (simulated seconds) the conditions must hold before the alarm is raised. */
+    public double getDelaySeconds() { return delaySeconds; }
+    public AlarmRule setDelaySeconds(double delaySeconds) {
+        if (delaySeconds < 0) throw new IllegalArgumentException("delaySeconds < 0");
+        this.delaySeconds = delaySeconds;
+        return this;
+    }
+
+    public boolean isLatching() { return latching; }
+    public AlarmRule setLatching(boolean latching) {
+        this.latching = latching;
+        return this;
+    }
+
+    public boolean isTrip() { return trip; }
+    public AlarmRule setTrip(boolean trip) {
+        this.trip = trip;
+        return this;
+    }
+
+    @Override
+    public String toString() { return name; }
+}
@@ -0,0 +1,16 @@
+package com.reactor.simulator;
+
+/**
+ * Plant quantities an {@link AlarmRule} can test. Rates are per simulated second, taken between
+ * consecutive ticks.
+ */
+public enum AlarmSignal {
+    CORE_TEMP,
+    COOLANT_TEMP,
+    ROD_POSITION,
+    FLOW_RATE,
+    CORE_TEMP_RATE,
+    COOLANT_TEMP_RATE,
+    /** Core minus coolant temperature. */
+    CORE_COOLANT_DELTA
+}
@@ -0,0 +1,27 @@
+package com.reactor.simulator;
+
+/**
+ * Implicit (backward) Euler on the coupled state: solves (I - dt*J) dx = dt*f(x) for the 2x2 system.
+ * First order, but L-stable, so large dt or stiff settings (high flow, large heat transfer
+ * coefficient) damp towards the steady state instead of oscillating.
+ */
+public class BackwardEulerIntegrator implements Integrator {
+    private final double[] j = new double[4];
+
+    @Override
+    public void step(ReactorModel reactor, CoolantModel coolant, double dt) {
+        double tc = reactor.getCoreTemp();
+        double tm = coolant.getCoolantTemp();
+        double fc = reactor.derivative(tc, tm);
+        double fm = coolant.derivative(tm, tc);
+        CoupledJacobian.evaluate(reactor, coolant, tc, tm, fc, fm, j);
+
+        double m00 = 1.0 - dt * j[0], m01 = -dt * j[1];
+        double m10 = -dt * j[2], m11 = 1.0 - dt * j[3];
+        double det = m00 * m11 - m01 * m10;
+        double rc = dt * fc, rm = dt * fm;
+
+        reactor.setCoreTemp(tc + (rc * m11 - m01 * rm) / det);
+        coolant.setCoolantTemp(tm + (m00 * rm - m10 * rc) / det);
+    }
+}
@@ -12,6 +12,7 @@ public class CSVExporter {
     private final File file;
     private BufferedWriter writer;
     private final DateTimeFormatter timeFmt = DateTimeFormatter.ISO_INSTANT;
+    private final StringBuilder line = new StringBuilder(64);
 
     public CSVExporter(File file) {
         this.file = file;
@@ -27,7 +28,11 @@ public class CSVExporter {
 
     public synchronized void writeLine(double timeSeconds, double coreTemp, double coolantTemp) throws IOException {
         if (writer == null) open();
-        writer.write(String.format("%.6f,%.6f,%.6f%n", timeSeconds, coreTemp, coolantTemp));
+        line.setLength(0);
+        DoubleFormat.append(line, timeSeconds, 6).append(',');
+        DoubleFormat.append(line, coreTemp, 6).append(',');
+        DoubleFormat.append(line, coolantTemp, 6).append(System.lineSeparator());
+        writer.append(line);
     }
 
     public synchronized void close() {
@@ -21,14 +21,24 @@ public class CoolantModel {
     }
 
     public double getCoolantTemp() { return coolantTemp; }
+    public void setCoolantTemp(double coolantTemp) { this.coolantTemp = coolantTemp; }
     public double getFlowRate() { return flowRate; }
     public void setFlowRate(double flowRate) { this.flowRate = Math.max(0.0, flowRate); }
 
+    public double getCoolantMass() { return coolantMass; }
+    public double getCoolantSpecificHeat() { return coolantSpecificHeat; }
+    public double getSinkTemp() { return sinkTemp; }
+    public double getUCoreToCoolant() { return uCoreToCoolant; }
+
     public void update(double dt, double coreTemp) {
+        coolantTemp += derivative(coolantTemp, coreTemp) * dt;
+    }
+
+    // dT/dt of the coolant at the given temperatures, with the current flow rate
+    public double derivative(double coolantTemp, double coreTemp) {
         double qFromCore = uCoreToCoolant * (coreTemp - coolantTemp);
         double qRemoved = flowRate * coolantSpecificHeat * (coolantTemp - sinkTemp);
         double qNet = qFromCore - qRemoved;
-        double dTdt = qNet / (coolantMass * coolantSpecificHeat);
-        coolantTemp += dTdt * dt;
+        return qNet / (coolantMass * coolantSpecificHeat);
     }
 }
@@ -0,0 +1,21 @@
+package com.reactor.simulator;
+
+/**
+ * Jacobian of the coupled (core, coolant) derivatives, by differencing the models' own
+ * {@code derivative} methods. Both models are linear in temperature, so the result is exact and
+ * independent of the probe size.
+ */
+final class CoupledJacobian {
+    private static final double PROBE = 1.0; // K
+
+    private CoupledJacobian() {}
+
+    /** Fills {@code j} with [dfc/dTc, dfc/dTm, dfm/dTc, dfm/dTm]; {@code fc}/{@code fm} are the derivatives at (tc, tm). */
+    static void evaluate(ReactorModel reactor, CoolantModel coolant, double tc, double tm,
+                         double fc, double fm, double[] j) {
+        j[0] = (reactor.derivative(tc + PROBE, tm) - fc) / PROBE;
+        j[1] = (reactor.derivative(tc, tm + PROBE) - fc) / PROBE;
+        j[2] = (coolant.derivative(tm, tc + PROBE) - fm) / PROBE;
+        j[3] = (coolant.derivative(tm + PROBE, tc) - fm) / PROBE;
+    }
+}
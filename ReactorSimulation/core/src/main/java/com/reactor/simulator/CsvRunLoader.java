@@ -0,0 +1,98 @@
+package com.reactor.simulator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Loads a CSV written by {@link SimulationController#exportCsvTo}, {@link CSVExporter} or
+ * {@link StreamingCsvExporter} (optionally gzipped) into a {@link TelemetryStore} for replay.
+ * Columns are matched by header name; rod position and flow are NaN when the file lacks them.
+ */
+public final class CsvRunLoader {
+    private CsvRunLoader() {}
+
+    public static TelemetryStore load(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        if (file.getName().endsWith(".gz")) in = new GZIPInputStream(in, 1 << 16);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16)) {
+            return load(reader, file.getName());
+        }
+    }
+
+    private static TelemetryStore load(BufferedReader reader, String name) throws IOException {
+        TelemetryStore store = new TelemetryStore();
+        // column position in the file for TIME, CORE, COOLANT, ROD, FLOW; -1 when absent
+        int[] position = {0, 1, 2, -1, -1};
+        boolean headerSeen = false;
+        double[] values = new double[8];
+        String line;
+        long lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            if (!headerSeen) {
+                headerSeen = true;
+                if (!Character.isDigit(line.charAt(0)) && line.charAt(0) != '-') {
+                    position = mapHeader(line.split(","));
+                    continue;
+                }
+            }
+            try {
+                int n = split(line, values);
+                double t = value(values, n, position[0]);
+                double core = value(values, n, position[1]);
+                double cool = value(values, n, position[2]);
+                double rod = value(values, n, position[3]);
+                double flow = value(values, n, position[4]);
+                store.append(t, core, cool, rod, flow, Double.NaN);
+            } catch (IndexOutOfBoundsException e) {
+                throw new IOException(name + ":" + lineNo + ": too few columns");
+            } catch (NumberFormatException e) {
+                throw new IOException(name + ":" + lineNo + ": " + e.getMessage());
+            }
+        }
+        return store;
+    }
+
+    private static int[] mapHeader(String[] names) throws IOException {
+        int[] position = {-1, -1, -1, -1, -1};
+        for (int i = 0; i < names.length; i++) {
+            switch (names[i].trim()) {
+                case "time_s" -> position[0] = i;
+                case "core_temp_c" -> position[1] = i;
+                case "coolant_temp_c" -> position[2] = i;
+                case "rod_position" -> position[3] = i;
+                case "flow_kg_s" -> position[4] = i;
+                default -> { }
+            }
+        }
+        if (position[0] < 0 || position[1] < 0 || position[2] < 0) {
+            throw new IOException("CSV header needs time_s, core_temp_c and coolant_temp_c");
+        }
+        return position;
+    }
+
+    private static double value(double[] values, int n, int pos) {
+        if (pos < 0) return Double.NaN;
+        if (pos >= n) throw new IndexOutOfBoundsException();
+        return values[pos];
+    }
+
+    private static int split(String line, double[] out) {
+        int n = 0, start = 0;
+        while (n < out.length) {
+            int comma = line.indexOf(',', start);
+            String field = comma < 0 ? line.substring(start) : line.substring(start, comma);
+            out[n++] = Double.parseDouble(field.trim());
+            if (comma < 0) break;
+            start = comma + 1;
+        }
+        return n;
+    }
+}
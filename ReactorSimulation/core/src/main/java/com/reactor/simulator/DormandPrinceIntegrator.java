@@ -0,0 +1,109 @@
+package com.reactor.simulator;
+
+/**
+ * Adaptive Dormand-Prince RK5(4) on the coupled (core, coolant) state. Each engine step of
+ * {@code dt} is covered by as many internal substeps as the error control needs; the accepted
+ * substep size carries over to the next call, so slow transients settle on a few substeps per tick.
+ */
+public class DormandPrinceIntegrator implements Integrator {
+    private static final double A21 = 1.0 / 5;
+    private static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    private static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    private static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187, A53 = 64448.0 / 6561, A54 = -212.0 / 729;
+    private static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247, A64 = 49.0 / 176,
+            A65 = -5103.0 / 18656;
+    private static final double B1 = 35.0 / 384, B3 = 500.0 / 1113, B4 = 125.0 / 192, B5 = -2187.0 / 6784, B6 = 11.0 / 84;
+    // difference between the 5th and embedded 4th order weights
+    private static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920, E5 = -17253.0 / 339200,
+            E6 = 22.0 / 525, E7 = -1.0 / 40;
+
+    private static final double SAFETY = 0.9;
+    private static final double MIN_SCALE = 0.2;
+    private static final double MAX_SCALE = 5.0;
+
+    private final double absTol;
+    private final double relTol;
+    private final double minStep;
+    private double h = Double.NaN;
+    private long acceptedSteps = 0;
+    private long rejectedSteps = 0;
+
+    public DormandPrinceIntegrator() {
+        this(1e-6, 1e-6, 1e-9);
+    }
+
+    public DormandPrinceIntegrator(double absTol, double relTol, double minStep) {
+        if (!(absTol > 0) && !(relTol > 0)) throw new IllegalArgumentException("a tolerance must be > 0");
+        this.absTol = absTol;
+        this.relTol = relTol;
+        this.minStep = minStep;
+    }
+
+    public long getAcceptedSteps() { return acceptedSteps; }
+    public long getRejectedSteps() { return rejectedSteps; }
+
+    @Override
+    public void step(ReactorModel reactor, CoolantModel coolant, double dt) {
+        double tc = reactor.getCoreTemp();
+        double tm = coolant.getCoolantTemp();
+        double k1c = reactor.derivative(tc, tm);
+        double k1m = coolant.derivative(tm, tc);
+
+        double t = 0.0;
+        if (!(h > 0) || h > dt) h = dt;
+        while (t < dt) {
+            double step = Math.min(h, dt - t);
+            boolean last = step >= dt - t;
+
+            double c = tc + step * A21 * k1c, m = tm + step * A21 * k1m;
+            double k2c = reactor.derivative(c, m), k2m = coolant.derivative(m, c);
+
+            c = tc + step * (A31 * k1c + A32 * k2c);
+            m = tm + step * (A31 * k1m + A32 * k2m);
+            double k3c = reactor.derivative(c, m), k3m = coolant.derivative(m, c);
+
+            c = tc + step * (A41 * k1c + A42 * k2c + A43 * k3c);
+            m = tm + step * (A41 * k1m + A42 * k2m + A43 * k3m);
+            double k4c = reactor.derivative(c, m), k4m = coolant.derivative(m, c);
+
+            c = tc + step * (A51 * k1c + A52 * k2c + A53 * k3c + A54 * k4c);
+            m = tm + step * (A51 * k1m + A52 * k2m + A53 * k3m + A54 * k4m);
+            double k5c = reactor.derivative(c, m), k5m = coolant.derivative(m, c);
+
+            c = tc + step * (A61 * k1c + A62 * k2c + A63 * k3c + A64 * k4c + A65 * k5c);
+            m = tm + step * (A61 * k1m + A62 * k2m + A63 * k3m + A64 * k4m + A65 * k5m);
+            double k6c = reactor.derivative(c, m), k6m = coolant.derivative(m, c);
+
+            double nc = tc + step * (B1 * k1c + B3 * k3c + B4 * k4c + B5 * k5c + B6 * k6c);
+            double nm = tm + step * (B1 * k1m + B3 * k3m + B4 * k4m + B5 * k5m + B6 * k6m);
+            // first-same-as-last: k7 is the derivative at the new state and becomes the next k1
+            double k7c = reactor.derivative(nc, nm), k7m = coolant.derivative(nm, nc);
+
+            double errC = step * (E1 * k1c + E3 * k3c + E4 * k4c + E5 * k5c + E6 * k6c + E7 * k7c);
+            double errM = step * (E1 * k1m + E3 * k3m + E4 * k4m + E5 * k5m + E6 * k6m + E7 * k7m);
+            double err = Math.max(
+                    Math.abs(errC) / (absTol + relTol * Math.max(Math.abs(tc), Math.abs(nc))),
+                    Math.abs(errM) / (absTol + relTol * Math.max(Math.abs(tm), Math.abs(nm))));
+
+            double scale = err == 0.0 ? MAX_SCALE
+                    : Math.min(MAX_SCALE, Math.max(MIN_SCALE, SAFETY * Math.pow(err, -0.2)));
+
+            if (err <= 1.0 || step <= minStep || Double.isNaN(err)) {
+                t = last ? dt : t + step;
+                tc = nc;
+                tm = nm;
+                k1c = k7c;
+                k1m = k7m;
+                acceptedSteps++;
+                // a clipped final substep says nothing about the size the dynamics allow
+                if (!last || step == h) h = Math.max(minStep, step * scale);
+            } else {
+                rejectedSteps++;
+                h = Math.max(minStep, step * scale);
+            }
+        }
+
+        reactor.setCoreTemp(tc);
+        coolant.setCoolantTemp(tm);
+    }
+}
@@ -0,0 +1,46 @@
+package com.reactor.simulator;
+
+import java.util.Locale;
+
+/**
+ * Fixed-point formatting of doubles into a StringBuilder without going through
+ * {@link String#format}, with the same output as {@code String.format(Locale.ROOT, "%.Nf", v)}:
+ * half-up rounding of the value's decimal representation (1.005 gives "1.01" at two decimals) and
+ * a sign kept on values that round to zero ("-0.000000"). Values within rounding error of a tie,
+ * or too large to scale into a long, are handed to {@code String.format} itself.
+ */
+public final class DoubleFormat {
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+    private static final double MAX_SCALED = 9.0e15; // below 2^53, so the long conversion is exact
+
+    private DoubleFormat() {}
+
+    public static StringBuilder append(StringBuilder sb, double v, int decimals) {
+        if (decimals < 0 || decimals >= POW10.length) throw new IllegalArgumentException("decimals " + decimals);
+        if (Double.isNaN(v)) return sb.append("NaN");
+        if (Double.isInfinite(v)) return sb.append(v > 0 ? "Infinity" : "-Infinity");
+        double scaled = Math.abs(v) * POW10[decimals];
+        // the scaling is off by a few ulps at most; so close to .5 only the decimal digits can tell
+        double tie = scaled - Math.floor(scaled) - 0.5;
+        if (scaled >= MAX_SCALED || Math.abs(tie) <= 1e-12 + scaled * 1e-15) {
+            return sb.append(String.format(Locale.ROOT, "%." + decimals + "f", v));
+        }
+
+        long units = (long) (scaled + 0.5);
+        if (Double.doubleToRawLongBits(v) < 0) sb.append('-');
+        sb.append(units / POW10[decimals]);
+        if (decimals > 0) {
+            long frac = units % POW10[decimals];
+            sb.append('.');
+            for (long p = POW10[decimals - 1]; p > 1 && p > frac; p /= 10) sb.append('0');
+            sb.append(frac);
+        }
+        return sb;
+    }
+
+    public static String format(double v, int decimals) {
+        return append(new StringBuilder(24), v, decimals).toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.reactor.simulator;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Per-tick timing of the real-time engine loop, split so a lagging UI can be pinned on physics,
+ * listener dispatch, scheduling (wake-up overshoot, lateness) or rendering. The engine thread records the tick
+ * histograms and the FX thread records frames; both are one histogram write per value.
+ */
+public class EngineMetrics implements EngineMetricsMXBean {
+    public static final String OBJECT_NAME = "com.reactor.simulator:type=EngineMetrics";
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final SampleRingBuffer feed;
+    private final LogHistogram compute = new LogHistogram();
+    private final LogHistogram dispatch = new LogHistogram();
+    private final LogHistogram overshoot = new LogHistogram();
+    private final LogHistogram jitter = new LogHistogram();
+    private final LogHistogram render = new LogHistogram();
+    private final LogHistogram backlog = new LogHistogram();
+
+    // reset() moves the baseline rather than clearing, so it never races the recording threads
+    private volatile Baseline baseline;
+
+    private static final class Baseline {
+        final LogHistogram.Snapshot compute, dispatch, overshoot, jitter, render, backlog;
+        final long dropped;
+
+        Baseline(EngineMetrics m) {
+            compute = m.compute.snapshot();
+            dispatch = m.dispatch.snapshot();
+            overshoot = m.overshoot.snapshot();
+            jitter = m.jitter.snapshot();
+            render = m.render.snapshot();
+            backlog = m.backlog.snapshot();
+            dropped = m.feed.getDropped();
+        }
+    }
+
+    public EngineMetrics(SampleRingBuffer feed) {
+        this.feed = feed;
+        this.baseline = new Baseline(this);
+    }
+
+    // engine thread
+    void recordTick(long computeNanos, long dispatchNanos) {
+        compute.record(computeNanos);
+        dispatch.record(dispatchNanos);
+        backlog.record(feed.getBacklog());
+    }
+
+    void recordSleep(long overshootNanos, long latenessNanos) {
+        overshoot.record(overshootNanos);
+        jitter.record(latenessNanos);
+    }
+
+    /** FX thread: time spent on one frame's drain and redraw. */
+    public void recordFrame(long nanos) {
+        render.record(nanos);
+    }
+
+    /** Registers this instance with the platform MBean server, replacing an earlier registration. */
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            try {
+                server.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            System.err.println("[EngineMetrics] JMX registration failed: " + e.getMessage());
+        }
+    }
+
+    public LogHistogram getComputeHistogram() { return compute; }
+    public LogHistogram getDispatchHistogram() { return dispatch; }
+    public LogHistogram getOvershootHistogram() { return overshoot; }
+    public LogHistogram getJitterHistogram() { return jitter; }
+    public LogHistogram getRenderHistogram() { return render; }
+    public LogHistogram getBacklogHistogram() { return backlog; }
+
+    @Override
+    public long getTicks() { return compute.getCount() - baseline.compute.getCount(); }
+
+    @Override
+    public HistogramStats getTickCompute() { return micros(compute, baseline.compute); }
+
+    @Override
+    public HistogramStats getListenerDispatch() { return micros(dispatch, baseline.dispatch); }
+
+    @Override
+    public HistogramStats getSleepOvershoot() { return micros(overshoot, baseline.overshoot); }
+
+    @Override
+    public HistogramStats getTickJitter() { return micros(jitter, baseline.jitter); }
+
+    @Override
+    public HistogramStats getFrameRender() { return micros(render, baseline.render); }
+
+    @Override
+    public HistogramStats getFeedBacklog() {
+        return new HistogramStats(backlog.snapshot().minus(baseline.backlog), 1.0);
+    }
+
+    @Override
+    public long getFeedDropped() { return feed.getDropped() - baseline.dropped; }
+
+    @Override
+    public void reset() {
+        baseline = new Baseline(this);
+    }
+
+    private static HistogramStats micros(LogHistogram h, LogHistogram.Snapshot since) {
+        return new HistogramStats(h.snapshot().minus(since), NANOS_PER_MICRO);
+    }
+}
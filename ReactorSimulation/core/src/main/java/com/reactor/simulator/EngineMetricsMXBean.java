@@ -0,0 +1,31 @@
+package com.reactor.simulator;
+
+/**
+ * JMX view of {@link EngineMetrics}. Latencies are in microseconds, backlog in samples; every value
+ * covers the ticks since the last {@link #reset()} (or since start).
+ */
+public interface EngineMetricsMXBean {
+    long getTicks();
+
+    /** Time spent integrating the models per tick. */
+    HistogramStats getTickCompute();
+
+    /** Time spent publishing the sample and running the engine-thread listeners per tick. */
+    HistogramStats getListenerDispatch();
+
+    /** How far past its deadline the pacing wait woke up. */
+    HistogramStats getSleepOvershoot();
+
+    /** How late each tick started relative to its scheduled deadline. */
+    HistogramStats getTickJitter();
+
+    /** Time the FX thread spent draining the feed and redrawing, per frame. */
+    HistogramStats getFrameRender();
+
+    /** Samples waiting in the UI feed, sampled once per tick. */
+    HistogramStats getFeedBacklog();
+
+    long getFeedDropped();
+
+    void reset();
+}
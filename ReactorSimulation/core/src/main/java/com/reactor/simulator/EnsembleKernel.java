@@ -0,0 +1,109 @@
+package com.reactor.simulator;
+
+/**
+ * Structure-of-arrays form of N independent reactor/coolant pairs, advanced together with the same
+ * explicit Euler equations as {@link ReactorModel#update} followed by {@link CoolantModel#update}.
+ * {@link #create(int)} returns the SIMD implementation when the {@code jdk.incubator.vector} module
+ * is available (run with {@code --add-modules jdk.incubator.vector}) and this scalar one otherwise.
+ */
+public class EnsembleKernel {
+    protected final int size;
+
+    // state
+    protected final double[] coreTemp;
+    protected final double[] coolantTemp;
+    // inputs
+    protected final double[] rodPosition;
+    protected final double[] flowRate;
+    // parameters
+    protected final double[] nominalPower;
+    protected final double[] coreHeatCapacity;     // coreMass * coreSpecificHeat
+    protected final double[] uCore;
+    protected final double[] coolantHeatCapacity;  // coolantMass * coolantSpecificHeat
+    protected final double[] coolantSpecificHeat;
+    protected final double[] sinkTemp;
+    protected final double[] uCoolant;
+
+    protected EnsembleKernel(int size) {
+        if (size < 0) throw new IllegalArgumentException("size < 0");
+        this.size = size;
+        coreTemp = new double[size];
+        coolantTemp = new double[size];
+        rodPosition = new double[size];
+        flowRate = new double[size];
+        nominalPower = new double[size];
+        coreHeatCapacity = new double[size];
+        uCore = new double[size];
+        coolantHeatCapacity = new double[size];
+        coolantSpecificHeat = new double[size];
+        sinkTemp = new double[size];
+        uCoolant = new double[size];
+    }
+
+    public static EnsembleKernel create(int size) {
+        if (VectorSupport.AVAILABLE) return new VectorEnsembleKernel(size);
+        return new EnsembleKernel(size);
+    }
+
+    public static EnsembleKernel createScalar(int size) {
+        return new EnsembleKernel(size);
+    }
+
+    public boolean isVectorized() { return false; }
+    public int size() { return size; }
+
+    /** Copies the state, inputs and parameters of one model pair into slot {@code i}. */
+    public void load(int i, ReactorModel reactor, CoolantModel coolant) {
+        coreTemp[i] = reactor.getCoreTemp();
+        coolantTemp[i] = coolant.getCoolantTemp();
+        rodPosition[i] = reactor.getControlRodPosition();
+        flowRate[i] = coolant.getFlowRate();
+        nominalPower[i] = reactor.getNominalPower();
+        coreHeatCapacity[i] = reactor.getCoreMass() * reactor.getCoreSpecificHeat();
+        uCore[i] = reactor.getUCoreToCoolant();
+        coolantHeatCapacity[i] = coolant.getCoolantMass() * coolant.getCoolantSpecificHeat();
+        coolantSpecificHeat[i] = coolant.getCoolantSpecificHeat();
+        sinkTemp[i] = coolant.getSinkTemp();
+        uCoolant[i] = coolant.getUCoreToCoolant();
+    }
+
+    public double getCoreTemp(int i) { return coreTemp[i]; }
+    public double getCoolantTemp(int i) { return coolantTemp[i]; }
+    public double getControlRodPosition(int i) { return rodPosition[i]; }
+    public double getFlowRate(int i) { return flowRate[i]; }
+
+    public void setControlRodPosition(int i, double pos) { rodPosition[i] = Math.max(0.0, Math.min(1.0, pos)); }
+    public void setFlowRate(int i, double flow) { flowRate[i] = Math.max(0.0, flow); }
+
+    /** Advances every pair by one timestep. */
+    public void step(double dt) {
+        stepRange(0, size, dt);
+    }
+
+    public void step(double dt, int steps) {
+        for (int s = 0; s < steps; s++) step(dt);
+    }
+
+    protected final void stepRange(int from, int to, double dt) {
+        for (int i = from; i < to; i++) {
+            double tc = coreTemp[i];
+            double tm = coolantTemp[i];
+            double powerGen = nominalPower[i] * (1.0 - rodPosition[i]);
+            double qCoreToCoolant = uCore[i] * (tc - tm);
+            tc += (powerGen - qCoreToCoolant) / coreHeatCapacity[i] * dt;
+            // coolant sees the already-advanced core temperature, as in SimulationEngine.step()
+            double qFromCore = uCoolant[i] * (tc - tm);
+            double qRemoved = flowRate[i] * coolantSpecificHeat[i] * (tm - sinkTemp[i]);
+            tm += (qFromCore - qRemoved) / coolantHeatCapacity[i] * dt;
+            coreTemp[i] = tc;
+            coolantTemp[i] = tm;
+        }
+    }
+
+    static final class VectorSupport {
+        static final boolean AVAILABLE = !Boolean.getBoolean("reactor.kernel.scalar")
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+        private VectorSupport() {}
+    }
+}
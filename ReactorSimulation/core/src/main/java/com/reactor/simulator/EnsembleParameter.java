@@ -0,0 +1,27 @@
+package com.reactor.simulator;
+
+/**
+ * Model inputs that an ensemble can vary, with the defaults used by the desktop app (AppContext).
+ */
+public enum EnsembleParameter {
+    INITIAL_CORE_TEMP(300.0),
+    NOMINAL_POWER(1.0e7),
+    CORE_MASS(5.0e4),
+    CORE_SPECIFIC_HEAT(500.0),
+    // shared by ReactorModel and CoolantModel, they describe the same interface
+    U_CORE_TO_COOLANT(1.0e5),
+    INITIAL_COOLANT_TEMP(290.0),
+    COOLANT_MASS(1.0e4),
+    COOLANT_SPECIFIC_HEAT(4184.0),
+    SINK_TEMP(290.0),
+    ROD_POSITION(1.0),
+    FLOW_RATE(200.0);
+
+    private final double defaultValue;
+
+    EnsembleParameter(double defaultValue) {
+        this.defaultValue = defaultValue;
+    }
+
+    public double getDefaultValue() { return defaultValue; }
+}
@@ -0,0 +1,123 @@
+package com.reactor.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Per-run outcomes of an ensemble plus summary statistics over them. Times are simulated seconds;
+ * runs that never reached a threshold have {@code NaN} as their time to it.
+ */
+public class EnsembleResult {
+    final double[][] inputs;
+    final double[] peakCoreTemp;
+    final double[] timeToPeak;
+    final double[] timeToCaution;
+    final double[] timeToCritical;
+    final double[] finalCoreTemp;
+    final double[] finalCoolantTemp;
+    final double[] endTime;
+    final boolean[] steady;
+    final long[] ticks;
+
+    EnsembleResult(int runs) {
+        inputs = new double[EnsembleParameter.values().length][runs];
+        peakCoreTemp = new double[runs];
+        timeToPeak = new double[runs];
+        timeToCaution = new double[runs];
+        timeToCritical = new double[runs];
+        finalCoreTemp = new double[runs];
+        finalCoolantTemp = new double[runs];
+        endTime = new double[runs];
+        steady = new boolean[runs];
+        ticks = new long[runs];
+    }
+
+    public int getRuns() { return peakCoreTemp.length; }
+
+    public double getInput(EnsembleParameter parameter, int run) { return inputs[parameter.ordinal()][run]; }
+    public double getPeakCoreTemp(int run) { return peakCoreTemp[run]; }
+    public double getTimeToPeak(int run) { return timeToPeak[run]; }
+    public double getTimeToCaution(int run) { return timeToCaution[run]; }
+    public double getTimeToCritical(int run) { return timeToCritical[run]; }
+    public double getFinalCoreTemp(int run) { return finalCoreTemp[run]; }
+    public double getFinalCoolantTemp(int run) { return finalCoolantTemp[run]; }
+    public double getEndTime(int run) { return endTime[run]; }
+    public boolean isSteady(int run) { return steady[run]; }
+
+    public long getTotalTicks() {
+        long n = 0;
+        for (long t : ticks) n += t;
+        return n;
+    }
+
+    public Summary getPeakCoreSummary() { return new Summary(peakCoreTemp); }
+    public Summary getTimeToCautionSummary() { return new Summary(timeToCaution); }
+    public Summary getTimeToCriticalSummary() { return new Summary(timeToCritical); }
+    public Summary getFinalCoreSummary() { return new Summary(finalCoreTemp); }
+    public Summary getFinalCoolantSummary() { return new Summary(finalCoolantTemp); }
+
+    public double getCautionFraction() { return (double) new Summary(timeToCaution).getCount() / getRuns(); }
+    public double getCriticalFraction() { return (double) new Summary(timeToCritical).getCount() / getRuns(); }
+
+    public double getSteadyFraction() {
+        int n = 0;
+        for (boolean s : steady) if (s) n++;
+        return (double) n / getRuns();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("runs=%d ticks=%d%n", getRuns(), getTotalTicks())
+                + "peak core      " + getPeakCoreSummary() + System.lineSeparator()
+                + String.format("caution  %5.1f%% t=", getCautionFraction() * 100) + getTimeToCautionSummary() + System.lineSeparator()
+                + String.format("critical %5.1f%% t=", getCriticalFraction() * 100) + getTimeToCriticalSummary() + System.lineSeparator()
+                + "final core     " + getFinalCoreSummary() + System.lineSeparator()
+                + "final coolant  " + getFinalCoolantSummary() + System.lineSeparator()
+                + String.format("steady   %5.1f%%", getSteadyFraction() * 100);
+    }
+
+    /**
+     * Order statistics and moments of one outcome, ignoring runs where it is {@code NaN}.
+     */
+    public static final class Summary {
+        private final double[] sorted;
+        private final double mean;
+        private final double stdDev;
+
+        Summary(double[] values) {
+            double[] tmp = new double[values.length];
+            int n = 0;
+            for (double v : values) if (!Double.isNaN(v)) tmp[n++] = v;
+            sorted = Arrays.copyOf(tmp, n);
+            Arrays.sort(sorted);
+            // Welford, stable for 10^5+ samples of similar magnitude
+            double m = 0.0, s = 0.0;
+            for (int i = 0; i < n; i++) {
+                double d = sorted[i] - m;
+                m += d / (i + 1);
+                s += d * (sorted[i] - m);
+            }
+            mean = n == 0 ? Double.NaN : m;
+            stdDev = n < 2 ? 0.0 : Math.sqrt(s / (n - 1));
+        }
+
+        public int getCount() { return sorted.length; }
+        public double getMean() { return mean; }
+        public double getStdDev() { return stdDev; }
+        public double getMin() { return sorted.length == 0 ? Double.NaN : sorted[0]; }
+        public double getMax() { return sorted.length == 0 ? Double.NaN : sorted[sorted.length - 1]; }
+
+        /** Nearest-rank percentile, {@code p} in [0, 100]. */
+        public double percentile(double p) {
+            if (sorted.length == 0) return Double.NaN;
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
+
+        @Override
+        public String toString() {
+            if (sorted.length == 0) return "n=0";
+            return String.format("n=%d mean=%.3f sd=%.3f min=%.3f p5=%.3f p50=%.3f p95=%.3f max=%.3f",
+                    getCount(), mean, stdDev, getMin(), percentile(5), percentile(50), percentile(95), getMax());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.reactor.simulator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs many independent headless simulations in parallel on a fork-join pool. Every run builds its
+ * own models and engine, so nothing is shared between worker threads except the result arrays,
+ * where each run owns its own slot.
+ */
+public class EnsembleRunner {
+    private static final int RUNS_PER_TASK = 32;
+    private static final int STEADY_TICKS = 10;
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+
+    public EnsembleRunner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public EnsembleRunner(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public EnsembleResult run(EnsembleSpec spec) {
+        EnsembleParameter[] params = EnsembleParameter.values();
+        long[] strides = new long[params.length];
+        long stride = 1;
+        for (int p = 0; p < params.length; p++) {
+            strides[p] = stride;
+            stride *= spec.get(params[p]).gridSize();
+        }
+        EnsembleResult result = new EnsembleResult(spec.getRuns());
+        pool.invoke(new RunRange(spec, strides, result, 0, spec.getRuns()));
+        return result;
+    }
+
+    private static void runOne(EnsembleSpec spec, long[] strides, int index, EnsembleResult out) {
+        EnsembleParameter[] params = EnsembleParameter.values();
+        // seeded per run so results do not depend on how the pool splits the work
+        SplittableRandom rnd = new SplittableRandom(spec.getSeed() + SEED_GAMMA * (index + 1L));
+        double[] v = new double[params.length];
+        for (int p = 0; p < params.length; p++) {
+            v[p] = spec.get(params[p]).sample(index, strides[p], rnd);
+            out.inputs[p][index] = v[p];
+        }
+
+        double u = v[EnsembleParameter.U_CORE_TO_COOLANT.ordinal()];
+        ReactorModel reactor = new ReactorModel(
+                v[EnsembleParameter.INITIAL_CORE_TEMP.ordinal()],
+                v[EnsembleParameter.NOMINAL_POWER.ordinal()],
+                v[EnsembleParameter.CORE_MASS.ordinal()],
+                v[EnsembleParameter.CORE_SPECIFIC_HEAT.ordinal()],
+                u);
+        CoolantModel coolant = new CoolantModel(
+                v[EnsembleParameter.INITIAL_COOLANT_TEMP.ordinal()],
+                v[EnsembleParameter.COOLANT_MASS.ordinal()],
+                v[EnsembleParameter.COOLANT_SPECIFIC_HEAT.ordinal()],
+                v[EnsembleParameter.SINK_TEMP.ordinal()],
+                u);
+        reactor.setControlRodPosition(v[EnsembleParameter.ROD_POSITION.ordinal()]);
+        coolant.setFlowRate(v[EnsembleParameter.FLOW_RATE.ordinal()]);
+
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, spec.getDt());
+        engine.setIntegrator(spec.getIntegratorType().create());
+        RunTracker tracker = new RunTracker(spec, reactor.getCoreTemp(), coolant.getCoolantTemp());
+        SimulationTrace trace = engine.runHeadless(spec.getDurationSeconds(), tracker, 0);
+
+        out.peakCoreTemp[index] = tracker.peakCore;
+        out.timeToPeak[index] = tracker.peakTime;
+        out.timeToCaution[index] = tracker.timeToCaution;
+        out.timeToCritical[index] = tracker.timeToCritical;
+        out.finalCoreTemp[index] = reactor.getCoreTemp();
+        out.finalCoolantTemp[index] = coolant.getCoolantTemp();
+        out.endTime[index] = engine.getSimTime();
+        out.steady[index] = tracker.steady;
+        out.ticks[index] = trace.getTicks();
+    }
+
+    private static final class RunTracker implements StopCondition {
+        private final double dt;
+        private final double cautionTemp;
+        private final double criticalTemp;
+        private final boolean stopAtCritical;
+        private final double steadyTolerance;
+
+        double peakCore;
+        double peakTime = 0.0;
+        double timeToCaution = Double.NaN;
+        double timeToCritical = Double.NaN;
+        boolean steady = false;
+        private double prevCore;
+        private double prevCoolant;
+        private int steadyTicks = 0;
+
+        RunTracker(EnsembleSpec spec, double initialCore, double initialCoolant) {
+            this.dt = spec.getDt();
+            this.cautionTemp = spec.getCautionTemp();
+            this.criticalTemp = spec.getCriticalTemp();
+            this.stopAtCritical = spec.isStopAtCritical();
+            this.steadyTolerance = spec.getSteadyStateTolerance();
+            this.peakCore = initialCore;
+            this.prevCore = initialCore;
+            this.prevCoolant = initialCoolant;
+            if (initialCore >= cautionTemp) timeToCaution = 0.0;
+            if (initialCore >= criticalTemp) timeToCritical = 0.0;
+        }
+
+        @Override
+        public boolean shouldStop(double simTime, double coreTemp, double coolantTemp) {
+            if (coreTemp > peakCore) {
+                peakCore = coreTemp;
+                peakTime = simTime;
+            }
+            if (coreTemp >= cautionTemp && Double.isNaN(timeToCaution)) timeToCaution = simTime;
+            if (coreTemp >= criticalTemp && Double.isNaN(timeToCritical)) {
+                timeToCritical = simTime;
+                if (stopAtCritical) return true;
+            }
+            if (steadyTolerance > 0) {
+                double limit = steadyTolerance * dt;
+                if (Math.abs(coreTemp - prevCore) <= limit && Math.abs(coolantTemp - prevCoolant) <= limit) {
+                    if (++steadyTicks >= STEADY_TICKS) {
+                        steady = true;
+                        return true;
+                    }
+                } else {
+                    steadyTicks = 0;
+                }
+            }
+            prevCore = coreTemp;
+            prevCoolant = coolantTemp;
+            return false;
+        }
+    }
+
+    // never serialized; ForkJoinTask is Serializable only by inheritance
+    @SuppressWarnings("serial")
+    private static final class RunRange extends RecursiveAction {
+        private final EnsembleSpec spec;
+        private final long[] strides;
+        private final EnsembleResult out;
+        private final int from;
+        private final int to;
+
+        RunRange(EnsembleSpec spec, long[] strides, EnsembleResult out, int from, int to) {
+            this.spec = spec;
+            this.strides = strides;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= RUNS_PER_TASK) {
+                for (int i = from; i < to; i++) runOne(spec, strides, i, out);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RunRange(spec, strides, out, from, mid),
+                    new RunRange(spec, strides, out, mid, to));
+        }
+    }
+}
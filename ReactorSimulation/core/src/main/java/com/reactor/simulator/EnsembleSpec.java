@@ -0,0 +1,75 @@
+package com.reactor.simulator;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Describes an ensemble: how each model input is varied, the run length and the safety thresholds
+ * used for the summary statistics.
+ */
+public class EnsembleSpec {
+    private final Map<EnsembleParameter, ParameterDistribution> parameters = new EnumMap<>(EnsembleParameter.class);
+    private int runs = 1000;
+    private long seed = 42L;
+    private double dt = 0.5;
+    private double durationSeconds = 3600.0;
+    private IntegratorType integratorType = IntegratorType.EULER;
+    private double cautionTemp = 500.0;
+    private double criticalTemp = 700.0;
+    private boolean stopAtCritical = false;
+    // a run counts as steady once both temperatures change slower than this (K/s); 0 disables
+    private double steadyStateTolerance = 1.0e-4;
+
+    public EnsembleSpec() {
+        for (EnsembleParameter p : EnsembleParameter.values()) {
+            parameters.put(p, ParameterDistribution.fixed(p.getDefaultValue()));
+        }
+    }
+
+    public EnsembleSpec set(EnsembleParameter parameter, ParameterDistribution distribution) {
+        parameters.put(parameter, distribution);
+        return this;
+    }
+
+    public ParameterDistribution get(EnsembleParameter parameter) { return parameters.get(parameter); }
+
+    public int getRuns() { return runs; }
+    public void setRuns(int runs) {
+        if (runs < 1) throw new IllegalArgumentException("runs < 1");
+        this.runs = runs;
+    }
+
+    /** Number of runs needed to cover every combination of the sweep parameters once. */
+    public int getGridSize() {
+        long n = 1;
+        for (ParameterDistribution d : parameters.values()) n *= d.gridSize();
+        return (int) Math.min(Integer.MAX_VALUE, n);
+    }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public double getDt() { return dt; }
+    public void setDt(double dt) {
+        if (!(dt > 0)) throw new IllegalArgumentException("dt must be > 0");
+        this.dt = dt;
+    }
+
+    public IntegratorType getIntegratorType() { return integratorType; }
+    public void setIntegratorType(IntegratorType integratorType) { this.integratorType = integratorType; }
+
+    public double getDurationSeconds() { return durationSeconds; }
+    public void setDurationSeconds(double durationSeconds) { this.durationSeconds = durationSeconds; }
+
+    public double getCautionTemp() { return cautionTemp; }
+    public void setCautionTemp(double cautionTemp) { this.cautionTemp = cautionTemp; }
+
+    public double getCriticalTemp() { return criticalTemp; }
+    public void setCriticalTemp(double criticalTemp) { this.criticalTemp = criticalTemp; }
+
+    public boolean isStopAtCritical() { return stopAtCritical; }
+    public void setStopAtCritical(boolean stopAtCritical) { this.stopAtCritical = stopAtCritical; }
+
+    public double getSteadyStateTolerance() { return steadyStateTolerance; }
+    public void setSteadyStateTolerance(double steadyStateTolerance) { this.steadyStateTolerance = steadyStateTolerance; }
+}
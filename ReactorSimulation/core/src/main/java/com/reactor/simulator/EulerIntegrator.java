@@ -0,0 +1,13 @@
+package com.reactor.simulator;
+
+/**
+ * The original update order: explicit Euler on the core, then on the coolant using the
+ * already-advanced core temperature. First order; kept as the default so existing runs reproduce.
+ */
+public class EulerIntegrator implements Integrator {
+    @Override
+    public void step(ReactorModel reactor, CoolantModel coolant, double dt) {
+        reactor.update(dt, coolant.getCoolantTemp());
+        coolant.update(dt, reactor.getCoreTemp());
+    }
+}
@@ -0,0 +1,233 @@
+package com.reactor.simulator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded event log. Entries go into a fixed-size ring (the oldest are overwritten) and readers
+ * pull them by sequence number: the dashboard once per frame, and a background writer thread for
+ * stdout and an optional file. Messages with the same key are rate limited: within the rate window
+ * only the first is kept, and the next one kept says how many were suppressed in between.
+ */
+public class EventLog implements Closeable {
+    public static final int DEFAULT_CAPACITY = 4096;
+    private static final int MAX_KEYS = 256;
+    private static final int WRITE_BATCH = 512;
+
+    private final DateTimeFormatter fmt = DateTimeFormatter.ISO_INSTANT;
+    private final int capacity;
+    private final long[] times;
+    private final String[] messages;
+    private final int[] suppressedBefore;
+    // sequence number of the next entry; entries written - capacity .. written - 1 are in the ring
+    private long written = 0;
+    private long suppressedTotal = 0;
+    private volatile long rateWindowMillis = 1000L;
+
+    // most recently used keys, for rate limiting
+    private final Map<String, long[]> keys = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, long[]> eldest) {
+            return size() > MAX_KEYS;
+        }
+    };
+
+    private final List<Writer> sinks = new ArrayList<>();
+    private boolean echoToStdout = true;
+    private Thread writer;
+    private boolean closed = false;
+
+    public EventLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EventLog(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity < 1");
+        this.capacity = capacity;
+        this.times = new long[capacity];
+        this.messages = new String[capacity];
+        this.suppressedBefore = new int[capacity];
+    }
+
+    public long getRateWindowMillis() { return rateWindowMillis; }
+    /** Minimum spacing between two kept entries with the same key; 0 keeps everything. */
+    public void setRateWindowMillis(long millis) { this.rateWindowMillis = Math.max(0L, millis); }
+
+    /** Appends {@code message}; exact repeats of it are rate limited. */
+    public void append(String message) {
+        append(message, message);
+    }
+
+    /** Appends {@code message}, rate limited together with every other message under {@code key}. */
+    public void append(String key, String message) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            int suppressed = admit(key, now);
+            if (suppressed >= 0) store(now, message, suppressed);
+        }
+    }
+
+    /** Like {@link #append(String, String)}, but only builds the message if it is going to be kept. */
+    public void append(String key, Supplier<String> message) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            int suppressed = admit(key, now);
+            if (suppressed >= 0) store(now, message.get(), suppressed);
+        }
+    }
+
+    // -1 if the entry is suppressed, otherwise how many were suppressed since the last kept one
+    private int admit(String key, long now) {
+        long[] state = keys.get(key); // {last kept millis, suppressed since}
+        if (state == null) {
+            keys.put(key, new long[]{now, 0});
+            return 0;
+        }
+        if (now - state[0] < rateWindowMillis) {
+            state[1]++;
+            suppressedTotal++;
+            return -1;
+        }
+        int suppressed = (int) Math.min(Integer.MAX_VALUE, state[1]);
+        state[0] = now;
+        state[1] = 0;
+        return suppressed;
+    }
+
+    private void store(long now, String message, int suppressed) {
+        int i = (int) (written % capacity);
+        times[i] = now;
+        messages[i] = message;
+        suppressedBefore[i] = suppressed;
+        written++;
+        if (writer != null) notifyAll();
+        else startWriter();
+    }
+
+    /** Number of entries kept so far (including ones since overwritten); the next entry's sequence number. */
+    public synchronized long getWrittenCount() { return written; }
+
+    public synchronized long getSuppressedCount() { return suppressedTotal; }
+
+    /**
+     * Adds up to {@code max} formatted entries from sequence number {@code from} on to {@code out}
+     * and returns the sequence number to continue from. Entries already overwritten are reported
+     * as a single "dropped" line.
+     */
+    public synchronized long drainSince(long from, int max, List<String> out) {
+        long oldest = Math.max(0L, written - capacity);
+        if (from < oldest) {
+            out.add(String.format("[... %d entries dropped]", oldest - from));
+            from = oldest;
+        }
+        long end = Math.min(written, from + max);
+        for (long seq = from; seq < end; seq++) out.add(format((int) (seq % capacity)));
+        return end;
+    }
+
+    /** The entries still in the ring, oldest first. */
+    public synchronized List<String> getLinesSnapshot() {
+        List<String> out = new ArrayList<>();
+        drainSince(Math.max(0L, written - capacity), capacity, out);
+        return out;
+    }
+
+    private String format(int i) {
+        String entry = "[" + fmt.format(Instant.ofEpochMilli(times[i]).atOffset(ZoneOffset.UTC)) + "] " + messages[i];
+        int s = suppressedBefore[i];
+        return s == 0 ? entry : entry + " (" + s + " similar suppressed)";
+    }
+
+    /** Whether the writer thread copies entries to stdout (on by default). */
+    public synchronized void setEchoToStdout(boolean echo) {
+        this.echoToStdout = echo;
+        if (echo) startWriter();
+    }
+
+    /** Appends new entries to {@code file} as well, written on the background writer thread. */
+    public synchronized void addFileSink(File file) throws IOException {
+        sinks.add(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)));
+        startWriter();
+    }
+
+    // caller holds the monitor
+    private void startWriter() {
+        if (writer != null || closed || (!echoToStdout && sinks.isEmpty())) return;
+        writer = new Thread(this::writeLoop, "EventLog-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void writeLoop() {
+        long cursor;
+        synchronized (this) {
+            // whatever is still in the ring when the writer starts goes out first
+            cursor = Math.max(0L, written - capacity);
+        }
+        List<String> batch = new ArrayList<>(WRITE_BATCH);
+        Writer stdout = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        String nl = System.lineSeparator();
+        while (true) {
+            List<Writer> targets;
+            synchronized (this) {
+                while (cursor == written && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (cursor == written) break;
+                batch.clear();
+                cursor = drainSince(cursor, WRITE_BATCH, batch);
+                targets = new ArrayList<>(sinks);
+                if (echoToStdout) targets.add(stdout);
+            }
+            for (Writer w : targets) {
+                try {
+                    for (String line : batch) w.append(line).append(nl);
+                    w.flush();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        synchronized (this) {
+            for (Writer w : sinks) {
+                try { w.close(); } catch (IOException ignored) {}
+            }
+            sinks.clear();
+        }
+    }
+
+    /** Writes out what is still queued and closes the file sinks. */
+    @Override
+    public void close() {
+        Thread w;
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+            w = writer;
+        }
+        if (w != null) {
+            try {
+                w.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
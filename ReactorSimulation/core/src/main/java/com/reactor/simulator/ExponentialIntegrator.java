@@ -0,0 +1,64 @@
+package com.reactor.simulator;
+
+/**
+ * Exponential integrator: x(t+dt) = x + dt*phi1(dt*J)*f(x), with phi1(z) = (e^z - 1)/z. Because
+ * the core/coolant equations are linear with constant inputs over a step, this is the exact
+ * solution for any dt, so it is both stable and accurate at coarse steps.
+ * phi1 of the 2x2 matrix is evaluated in closed form from its eigenvalues.
+ */
+public class ExponentialIntegrator implements Integrator {
+    private final double[] j = new double[4];
+
+    @Override
+    public void step(ReactorModel reactor, CoolantModel coolant, double dt) {
+        double tc = reactor.getCoreTemp();
+        double tm = coolant.getCoolantTemp();
+        double fc = reactor.derivative(tc, tm);
+        double fm = coolant.derivative(tm, tc);
+        CoupledJacobian.evaluate(reactor, coolant, tc, tm, fc, fm, j);
+
+        double z00 = dt * j[0], z01 = dt * j[1], z10 = dt * j[2], z11 = dt * j[3];
+        double half = 0.5 * (z00 + z11);
+        double det = z00 * z11 - z01 * z10;
+        double disc = half * half - det;
+
+        // phi1(Z) = c0*I + c1*Z, from the divided difference of phi1 over Z's eigenvalues
+        double c0, c1;
+        double scale = half * half + Math.abs(det);
+        if (Math.abs(disc) <= 1e-12 * scale) {
+            c1 = phi1Derivative(half);
+            c0 = phi1(half) - half * c1;
+        } else if (disc > 0) {
+            double r = Math.sqrt(disc);
+            double mu1 = half + r, mu2 = half - r;
+            double p1 = phi1(mu1), p2 = phi1(mu2);
+            c1 = (p1 - p2) / (mu1 - mu2);
+            c0 = p1 - mu1 * c1;
+        } else {
+            // complex pair half +/- i*beta: c1 = Im(phi1)/beta, c0 = Re(phi1) - half*c1
+            double beta = Math.sqrt(-disc);
+            double ea = Math.exp(half);
+            double nr = ea * Math.cos(beta) - 1.0, ni = ea * Math.sin(beta);
+            double d = half * half + beta * beta;
+            double re = (nr * half + ni * beta) / d;
+            double im = (ni * half - nr * beta) / d;
+            c1 = im / beta;
+            c0 = re - half * c1;
+        }
+
+        double dc = dt * ((c0 + c1 * z00) * fc + c1 * z01 * fm);
+        double dm = dt * (c1 * z10 * fc + (c0 + c1 * z11) * fm);
+        reactor.setCoreTemp(tc + dc);
+        coolant.setCoolantTemp(tm + dm);
+    }
+
+    static double phi1(double z) {
+        if (Math.abs(z) < 1e-5) return 1.0 + z * (0.5 + z / 6.0);
+        return Math.expm1(z) / z;
+    }
+
+    static double phi1Derivative(double z) {
+        if (Math.abs(z) < 1e-3) return 0.5 + z * (1.0 / 3.0 + z / 8.0);
+        return ((z - 1.0) * Math.expm1(z) + z) / (z * z);
+    }
+}
@@ -0,0 +1,33 @@
+package com.reactor.simulator;
+
+/**
+ * Summary of a {@link LogHistogram.Snapshot} in display units (e.g. microseconds), shaped for JMX:
+ * an MXBean attribute of this type appears as CompositeData with one item per getter.
+ */
+public class HistogramStats {
+    private final long count;
+    private final double mean;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double p999;
+    private final double max;
+
+    public HistogramStats(LogHistogram.Snapshot s, double unitDivisor) {
+        this.count = s.getCount();
+        this.mean = s.getMean() / unitDivisor;
+        this.p50 = s.percentile(50) / unitDivisor;
+        this.p90 = s.percentile(90) / unitDivisor;
+        this.p99 = s.percentile(99) / unitDivisor;
+        this.p999 = s.percentile(99.9) / unitDivisor;
+        this.max = s.getMax() / unitDivisor;
+    }
+
+    public long getCount() { return count; }
+    public double getMean() { return mean; }
+    public double getP50() { return p50; }
+    public double getP90() { return p90; }
+    public double getP99() { return p99; }
+    public double getP999() { return p999; }
+    public double getMax() { return max; }
+}
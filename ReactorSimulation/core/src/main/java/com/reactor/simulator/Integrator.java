@@ -0,0 +1,10 @@
+package com.reactor.simulator;
+
+/**
+ * Advances the coupled core/coolant state by {@code dt}, holding rod position and flow rate constant
+ * over the step. Implementations may keep per-run state (e.g. a step-size estimate), so give every
+ * engine its own instance.
+ */
+public interface Integrator {
+    void step(ReactorModel reactor, CoolantModel coolant, double dt);
+}
@@ -0,0 +1,31 @@
+package com.reactor.simulator;
+
+/**
+ * Named integrators, for configuration and UI choices.
+ */
+public enum IntegratorType {
+    EULER,
+    RK4,
+    DORMAND_PRINCE,
+    BACKWARD_EULER,
+    EXPONENTIAL;
+
+    public Integrator create() {
+        switch (this) {
+            case RK4: return new RK4Integrator();
+            case DORMAND_PRINCE: return new DormandPrinceIntegrator();
+            case BACKWARD_EULER: return new BackwardEulerIntegrator();
+            case EXPONENTIAL: return new ExponentialIntegrator();
+            default: return new EulerIntegrator();
+        }
+    }
+
+    /** The type of an integrator instance, so a copy of the engine can use a fresh one of the same kind. */
+    public static IntegratorType of(Integrator integrator) {
+        if (integrator instanceof RK4Integrator) return RK4;
+        if (integrator instanceof DormandPrinceIntegrator) return DORMAND_PRINCE;
+        if (integrator instanceof BackwardEulerIntegrator) return BACKWARD_EULER;
+        if (integrator instanceof ExponentialIntegrator) return EXPONENTIAL;
+        return EULER;
+    }
+}
@@ -0,0 +1,103 @@
+package com.reactor.simulator;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size log-linear histogram of non-negative longs (typically nanoseconds): 16 linear
+ * sub-buckets per power of two, so any recorded value is reported within about 6%. Recording is a
+ * few arithmetic ops and two ordered stores with no allocation or locking; it must come from a
+ * single thread. Any thread may take a {@link Snapshot}, and the difference of two snapshots gives
+ * the distribution over the interval between them.
+ */
+public final class LogHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private volatile long count;
+    private volatile long sum;
+    private volatile long max;
+
+    /** Writer side. Negative values are recorded as 0. */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        int i = bucketOf(value);
+        counts.lazySet(i, counts.get(i) + 1);
+        sum = sum + value;
+        if (value > max) max = value;
+        count = count + 1;
+    }
+
+    static int bucketOf(long v) {
+        if (v < SUB_COUNT) return (int) v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) ((v >>> shift) & (SUB_COUNT - 1));
+    }
+
+    // largest value that maps to bucket i
+    static long upperBound(int i) {
+        if (i < SUB_COUNT) return i;
+        int shift = i / SUB_COUNT - 1;
+        long sub = i % SUB_COUNT;
+        return ((SUB_COUNT + sub + 1) << shift) - 1;
+    }
+
+    public long getCount() { return count; }
+
+    public Snapshot snapshot() {
+        long[] c = new long[BUCKETS];
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            c[i] = counts.get(i);
+            n += c[i];
+        }
+        // the count is taken from the buckets so percentiles stay consistent with them
+        return new Snapshot(c, n, sum, max);
+    }
+
+    /** Immutable copy of the bucket counts at one moment. */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() { return count; }
+        public double getMean() { return count == 0 ? 0.0 : (double) sum / count; }
+
+        /** Largest recorded value; for a difference, the upper bound of the highest non-empty bucket. */
+        public long getMax() { return max; }
+
+        /** Value at or below which {@code percentile} percent of the samples fall (bucket upper bound). */
+        public long percentile(double percentile) {
+            if (count <= 0) return 0;
+            long rank = (long) Math.ceil(percentile / 100.0 * count);
+            if (rank < 1) rank = 1;
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(upperBound(i), max);
+            }
+            return max;
+        }
+
+        /** Distribution of the samples recorded after {@code earlier} was taken. */
+        public Snapshot minus(Snapshot earlier) {
+            long[] c = new long[counts.length];
+            long top = 0;
+            for (int i = 0; i < c.length; i++) {
+                c[i] = Math.max(0, counts[i] - earlier.counts[i]);
+                if (c[i] > 0) top = upperBound(i);
+            }
+            return new Snapshot(c, Math.max(0, count - earlier.count), sum - earlier.sum, Math.min(top, max));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.reactor.simulator;
+
+/**
+ * What the real-time engine does when a tick starts later than its deadline by a full period or more
+ * (a GC pause, a slow listener, an overloaded machine).
+ */
+public enum OverrunPolicy {
+    /** Run the missed ticks back to back until simulated time is level with the wall clock again. */
+    CATCH_UP,
+    /** Drop the missed ticks and continue on the original schedule; simulated time falls behind by the skipped ticks. */
+    SKIP,
+    /** Restart the schedule from now; simulated time runs slower than the wall clock for as long as the overload lasts. */
+    SLOW_DOWN
+}
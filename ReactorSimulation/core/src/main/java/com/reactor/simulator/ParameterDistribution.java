@@ -0,0 +1,80 @@
+package com.reactor.simulator;
+
+import java.util.SplittableRandom;
+
+/**
+ * How one {@link EnsembleParameter} is chosen for each run: a fixed value, a random draw, or a
+ * grid sweep. Sweeps over several parameters combine as a cartesian product.
+ */
+public final class ParameterDistribution {
+    private enum Kind { FIXED, UNIFORM, NORMAL, SWEEP }
+
+    private final Kind kind;
+    private final double a;
+    private final double b;
+    private final int steps;
+
+    private ParameterDistribution(Kind kind, double a, double b, int steps) {
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+        this.steps = steps;
+    }
+
+    public static ParameterDistribution fixed(double value) {
+        return new ParameterDistribution(Kind.FIXED, value, value, 1);
+    }
+
+    public static ParameterDistribution uniform(double min, double max) {
+        if (max < min) throw new IllegalArgumentException("max < min");
+        return new ParameterDistribution(Kind.UNIFORM, min, max, 1);
+    }
+
+    /**
+     * Normal distribution truncated to positive values (non-positive draws are redrawn), since a zero
+     * mass, heat capacity or flow makes the models divide by zero. The mean must be positive.
+     */
+    public static ParameterDistribution normal(double mean, double stdDev) {
+        if (!(mean > 0)) throw new IllegalArgumentException("mean must be > 0");
+        if (stdDev < 0) throw new IllegalArgumentException("stdDev < 0");
+        return new ParameterDistribution(Kind.NORMAL, mean, stdDev, 1);
+    }
+
+    /** {@code steps} evenly spaced values from {@code from} to {@code to} inclusive. */
+    public static ParameterDistribution sweep(double from, double to, int steps) {
+        if (steps < 1) throw new IllegalArgumentException("steps < 1");
+        return new ParameterDistribution(Kind.SWEEP, from, to, steps);
+    }
+
+    /** Number of distinct grid points this parameter contributes to a sweep (1 if not a sweep). */
+    public int gridSize() { return steps; }
+
+    double sample(int runIndex, long gridStride, SplittableRandom rnd) {
+        switch (kind) {
+            case UNIFORM:
+                return a + (b - a) * rnd.nextDouble();
+            case NORMAL: {
+                // Marsaglia polar method; SplittableRandom has no nextGaussian on every JDK. With a
+                // positive mean at least half the draws are kept.
+                double x;
+                do {
+                    double u, v, s;
+                    do {
+                        u = 2.0 * rnd.nextDouble() - 1.0;
+                        v = 2.0 * rnd.nextDouble() - 1.0;
+                        s = u * u + v * v;
+                    } while (s >= 1.0 || s == 0.0);
+                    x = a + b * u * Math.sqrt(-2.0 * Math.log(s) / s);
+                } while (!(x > 0));
+                return x;
+            }
+            case SWEEP: {
+                if (steps == 1) return a;
+                long i = (runIndex / gridStride) % steps;
+                return a + (b - a) * i / (steps - 1);
+            }
+            default:
+                return a;
+        }
+    }
+}
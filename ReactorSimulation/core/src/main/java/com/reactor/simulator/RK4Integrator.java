@@ -0,0 +1,31 @@
+package com.reactor.simulator;
+
+/**
+ * Classical fourth-order Runge-Kutta on the coupled (core, coolant) state, so both equations see
+ * consistent temperatures at every stage.
+ */
+public class RK4Integrator implements Integrator {
+    @Override
+    public void step(ReactorModel reactor, CoolantModel coolant, double dt) {
+        double tc = reactor.getCoreTemp();
+        double tm = coolant.getCoolantTemp();
+
+        double k1c = reactor.derivative(tc, tm);
+        double k1m = coolant.derivative(tm, tc);
+
+        double c2 = tc + 0.5 * dt * k1c, m2 = tm + 0.5 * dt * k1m;
+        double k2c = reactor.derivative(c2, m2);
+        double k2m = coolant.derivative(m2, c2);
+
+        double c3 = tc + 0.5 * dt * k2c, m3 = tm + 0.5 * dt * k2m;
+        double k3c = reactor.derivative(c3, m3);
+        double k3m = coolant.derivative(m3, c3);
+
+        double c4 = tc + dt * k3c, m4 = tm + dt * k3m;
+        double k4c = reactor.derivative(c4, m4);
+        double k4m = coolant.derivative(m4, c4);
+
+        reactor.setCoreTemp(tc + dt / 6.0 * (k1c + 2.0 * k2c + 2.0 * k3c + k4c));
+        coolant.setCoolantTemp(tm + dt / 6.0 * (k1m + 2.0 * k2m + 2.0 * k3m + k4m));
+    }
+}
@@ -0,0 +1,34 @@
+package com.reactor.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Entry point of the headless command-line jar (reactor-cli.jar), for batch workers and servers.
+ * It only dispatches to the existing tools and never touches JavaFX, so it starts on a plain JRE.
+ */
+public final class ReactorCli {
+    private ReactorCli() { }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            System.exit(2);
+        }
+        String[] rest = Arrays.copyOfRange(args, 1, args.length);
+        switch (args[0]) {
+            case "suite" -> ScenarioSuite.main(rest);
+            case "serve" -> TelemetryServer.main(rest);
+            case "sessions" -> SessionManager.main(rest);
+            default -> {
+                usage();
+                System.exit(2);
+            }
+        }
+    }
+
+    private static void usage() {
+        System.err.println("usage: reactor-cli suite <scenario-dir> [report-file]");
+        System.err.println("       reactor-cli serve [port]");
+        System.err.println("       reactor-cli sessions [sessions] [seconds] [timeScale]");
+    }
+}
@@ -21,18 +21,26 @@ public class ReactorModel {
     }
 
     public double getCoreTemp() { return coreTemp; }
+    public void setCoreTemp(double coreTemp) { this.coreTemp = coreTemp; }
     public double getControlRodPosition() { return controlRodPosition; }
     public void setControlRodPosition(double controlRodPosition) {
         this.controlRodPosition = Math.max(0.0, Math.min(1.0, controlRodPosition));
     }
 
     public double getNominalPower() { return nominalPower; }
+    public double getCoreMass() { return coreMass; }
+    public double getCoreSpecificHeat() { return coreSpecificHeat; }
+    public double getUCoreToCoolant() { return uCoreToCoolant; }
 
     public void update(double dt, double coolantTemp) {
+        coreTemp += derivative(coreTemp, coolantTemp) * dt;
+    }
+
+    // dT/dt of the core at the given temperatures, with the current rod position
+    public double derivative(double coreTemp, double coolantTemp) {
         double powerGen = nominalPower * (1.0 - controlRodPosition);
         double qCoreToCoolant = uCoreToCoolant * (coreTemp - coolantTemp);
         double qNet = powerGen - qCoreToCoolant;
-        double dTdt = qNet / (coreMass * coreSpecificHeat);
-        coreTemp += dTdt * dt;
+        return qNet / (coreMass * coreSpecificHeat);
     }
 }
@@ -0,0 +1,17 @@
+package com.reactor.simulator;
+
+/**
+ * Read-only columnar view of a finished or growing run, addressed by row. Columns use the
+ * {@link TelemetryStore} indices; times are non-decreasing.
+ */
+public interface RecordedRun {
+    long size();
+
+    double get(int column, long row);
+
+    /** First row whose time is >= {@code t}, or {@link #size()} if none. */
+    long indexOfTime(double t);
+
+    /** Copies up to {@code len} values of one column starting at {@code from}; returns the count copied. */
+    int read(int column, long from, double[] dst, int off, int len);
+}
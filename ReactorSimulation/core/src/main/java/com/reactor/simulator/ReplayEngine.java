@@ -0,0 +1,177 @@
+package com.reactor.simulator;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays a {@link RecordedRun} back through the same feed and listener interface as the live
+ * {@link SimulationEngine}. Playback runs at 0.1x to 1000x with pause and seek. Each wake-up (about
+ * one display frame) publishes the rows whose time has passed; when a frame covers more rows than the
+ * UI can use, they are thinned to a fixed budget so fast playback does not flood the feed.
+ */
+public class ReplayEngine implements SampleSource, Runnable {
+    public static final double MIN_SPEED = 0.1;
+    public static final double MAX_SPEED = 1000.0;
+
+    private static final int FEED_CAPACITY = 1 << 14;
+    private static final long FRAME_NANOS = 16_666_667L;
+    private static final int MAX_ROWS_PER_FRAME = 2048;
+    // history published before the seek position so the charts' window is not empty after a jump
+    private static final double SEEK_PREROLL_SECONDS = 120.0;
+
+    private final RecordedRun run;
+    private final SampleRingBuffer feed = new SampleRingBuffer(FEED_CAPACITY);
+    private volatile SimulationListener[] listeners = new SimulationListener[0];
+
+    private volatile boolean running = false;
+    private volatile Thread runner;
+    private volatile boolean paused = false;
+    private volatile double speed = 1.0;
+    // seek requested by another thread, picked up by the playback thread; NaN when none
+    private volatile double pendingSeek = Double.NaN;
+    // next row to publish and the playback clock (simulated seconds)
+    private volatile long position = 0;
+    private volatile double playbackTime;
+
+    public ReplayEngine(RecordedRun run) {
+        this.run = run;
+        this.playbackTime = run.size() > 0 ? run.get(TelemetryStore.TIME, 0) : 0.0;
+    }
+
+    public RecordedRun getRun() { return run; }
+
+    @Override
+    public SampleRingBuffer getFeed() { return feed; }
+
+    @Override
+    public synchronized void addListener(SimulationListener listener) {
+        if (listener == null) return;
+        SimulationListener[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[listeners.length] = listener;
+        listeners = next;
+    }
+
+    @Override
+    public synchronized void removeListener(SimulationListener listener) {
+        SimulationListener[] cur = listeners;
+        for (int i = 0; i < cur.length; i++) {
+            if (cur[i] == listener) {
+                SimulationListener[] next = new SimulationListener[cur.length - 1];
+                System.arraycopy(cur, 0, next, 0, i);
+                System.arraycopy(cur, i + 1, next, i, cur.length - i - 1);
+                listeners = next;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Starts playback. A playback thread stopped just before is waited for first, so two never drive
+     * the listeners at once; called from that thread (a listener), the old one exits after its frame.
+     */
+    @Override
+    public synchronized void start() {
+        if (running) return;
+        Thread previous = runner;
+        if (previous != null && previous != Thread.currentThread()) {
+            LockSupport.unpark(previous);
+            try {
+                previous.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        running = true;
+        Thread t = new Thread(this, "ReplayEngine");
+        t.setDaemon(true);
+        runner = t;
+        t.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = runner;
+        if (t != null) LockSupport.unpark(t);
+    }
+
+    @Override
+    public boolean isRunning() { return running; }
+
+    public boolean isPaused() { return paused; }
+    public void setPaused(boolean paused) { this.paused = paused; }
+
+    public double getSpeed() { return speed; }
+    public void setSpeed(double speed) {
+        this.speed = Math.max(MIN_SPEED, Math.min(MAX_SPEED, speed));
+    }
+
+    /** Jumps playback to simulated time {@code t}; takes effect on the next frame. */
+    public void seek(double t) {
+        pendingSeek = t;
+    }
+
+    public double getPlaybackTime() { return playbackTime; }
+    public boolean isFinished() { return position >= run.size(); }
+
+    public double getStartTime() {
+        return run.size() > 0 ? run.get(TelemetryStore.TIME, 0) : 0.0;
+    }
+
+    public double getEndTime() {
+        long n = run.size();
+        return n > 0 ? run.get(TelemetryStore.TIME, n - 1) : 0.0;
+    }
+
+    @Override
+    public void run() {
+        Thread self = Thread.currentThread();
+        long last = System.nanoTime();
+        while (running && runner == self) {
+            double seek = pendingSeek;
+            if (!Double.isNaN(seek)) {
+                pendingSeek = Double.NaN;
+                long target = run.indexOfTime(seek);
+                publishRange(run.indexOfTime(seek - SEEK_PREROLL_SECONDS), target);
+                position = target;
+                playbackTime = seek;
+            }
+
+            long now = System.nanoTime();
+            if (!paused && position < run.size()) {
+                double clock = playbackTime + (now - last) / 1e9 * speed;
+                // rows strictly before the clock are due
+                long end = run.indexOfTime(clock);
+                publishRange(position, end);
+                position = end;
+                playbackTime = clock;
+            }
+            last = now;
+
+            LockSupport.parkNanos(FRAME_NANOS);
+            if (Thread.interrupted()) break;
+        }
+        // a newer loop started from a listener owns the flag now
+        if (runner == self) running = false;
+    }
+
+    // publishes rows [from, to), keeping at most MAX_ROWS_PER_FRAME evenly spaced ones and always the last
+    private void publishRange(long from, long to) {
+        long n = to - from;
+        if (n <= 0) return;
+        long stride = (n + MAX_ROWS_PER_FRAME - 1) / MAX_ROWS_PER_FRAME;
+        SimulationListener[] ls = listeners;
+        for (long row = to - 1 - (n - 1) / stride * stride; row < to; row += stride) {
+            double t = run.get(TelemetryStore.TIME, row);
+            double core = run.get(TelemetryStore.CORE, row);
+            double cool = run.get(TelemetryStore.COOLANT, row);
+            double rod = run.get(TelemetryStore.ROD, row);
+            double flow = run.get(TelemetryStore.FLOW, row);
+            feed.publish(t, core, cool, rod, flow);
+            for (int i = 0; i < ls.length; i++) {
+                try { ls[i].onSample(t, core, cool, rod, flow); } catch (Exception ignored) {}
+            }
+        }
+    }
+}
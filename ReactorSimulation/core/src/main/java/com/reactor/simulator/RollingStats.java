@@ -0,0 +1,171 @@
+package com.reactor.simulator;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Rolling statistics of one signal over the last {@code windowSeconds} of simulated time, updated
+ * in O(1) per sample: min and max from monotonic deques, mean and standard deviation by Welford's
+ * method (each sample added on entry and removed on eviction), and the rate of change from the
+ * sample {@code rateSeconds} back. One thread calls {@link #add}; any thread may read the latest
+ * {@link Summary}, which is published under a sequence counter like the engine's state.
+ */
+public class RollingStats {
+    // a dt this small makes for a large window; beyond this many samples the window is shortened
+    private static final int MAX_SAMPLES = 1 << 16;
+
+    private final int capacity;
+    private final int rateSamples;
+    private final double[] times;
+    private final double[] values;
+    // samples added since the last clear; sample s lives in slot s % capacity
+    private long added = 0;
+    // monotonic deques of sample numbers, stored in rings of the same capacity
+    private final long[] maxQueue;
+    private final long[] minQueue;
+    private long maxHead, maxTail, minHead, minTail;
+    private double mean;
+    private double m2;
+    private double lastTime = Double.NaN;
+
+    // latest summary, published under a sequence counter (odd = writing)
+    private volatile long seq = 0;
+    private int pCount;
+    private double pTime, pValue, pMin, pMax, pMean, pStdDev, pRate;
+
+    public RollingStats(double windowSeconds, double rateSeconds, double dt) {
+        if (!(dt > 0)) throw new IllegalArgumentException("dt must be > 0");
+        if (!(windowSeconds >= dt)) throw new IllegalArgumentException("window must cover at least one step");
+        if (!(rateSeconds > 0)) throw new IllegalArgumentException("rateSeconds must be > 0");
+        capacity = (int) Math.min(MAX_SAMPLES, Math.round(windowSeconds / dt) + 1);
+        rateSamples = (int) Math.max(1, Math.min(capacity - 1, Math.round(rateSeconds / dt)));
+        times = new double[capacity];
+        values = new double[capacity];
+        maxQueue = new long[capacity];
+        minQueue = new long[capacity];
+    }
+
+    /** Adds a sample; a time at or before the previous sample's (reset, restore) starts the window over. */
+    public void add(double time, double x) {
+        if (!(time > lastTime)) clearWindow();
+        lastTime = time;
+
+        long s = added;
+        int slot = (int) (s % capacity);
+        int count = (int) Math.min(s, capacity);
+        if (count == capacity) {
+            // the slot's old sample leaves the window
+            long old = s - capacity;
+            double y = values[slot];
+            if (maxQueue[(int) (maxHead % capacity)] == old) maxHead++;
+            if (minQueue[(int) (minHead % capacity)] == old) minHead++;
+            count--;
+            if (count == 0) {
+                mean = 0.0;
+                m2 = 0.0;
+            } else {
+                double d = y - mean;
+                mean -= d / count;
+                m2 -= d * (y - mean);
+            }
+        }
+        times[slot] = time;
+        values[slot] = x;
+        added = s + 1;
+        count++;
+
+        while (maxTail > maxHead && values[(int) (maxQueue[(int) ((maxTail - 1) % capacity)] % capacity)] <= x) maxTail--;
+        maxQueue[(int) (maxTail++ % capacity)] = s;
+        while (minTail > minHead && values[(int) (minQueue[(int) ((minTail - 1) % capacity)] % capacity)] >= x) minTail--;
+        minQueue[(int) (minTail++ % capacity)] = s;
+
+        double d = x - mean;
+        mean += d / count;
+        m2 += d * (x - mean);
+
+        int back = Math.min(rateSamples, count - 1);
+        double rate = 0.0;
+        if (back > 0) {
+            int from = (int) ((s - back) % capacity);
+            rate = (x - values[from]) / (time - times[from]);
+        }
+
+        long q = seq;
+        seq = q + 1;
+        VarHandle.storeStoreFence();
+        pCount = count;
+        pTime = time;
+        pValue = x;
+        pMax = values[(int) (maxQueue[(int) (maxHead % capacity)] % capacity)];
+        pMin = values[(int) (minQueue[(int) (minHead % capacity)] % capacity)];
+        pMean = mean;
+        // removals can leave m2 a rounding error below zero
+        pStdDev = count > 1 ? Math.sqrt(Math.max(0.0, m2) / (count - 1)) : 0.0;
+        pRate = rate;
+        seq = q + 2;
+    }
+
+    private void clearWindow() {
+        added = 0;
+        maxHead = maxTail = minHead = minTail = 0;
+        mean = 0.0;
+        m2 = 0.0;
+    }
+
+    /** The statistics as of the latest sample, or null before the first one. */
+    public Summary getSummary() {
+        while (true) {
+            long q = seq;
+            if ((q & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int count = pCount;
+            double time = pTime, value = pValue, min = pMin, max = pMax, mean = pMean, sd = pStdDev, rate = pRate;
+            VarHandle.loadLoadFence();
+            if (seq != q) continue;
+            return count == 0 ? null : new Summary(count, time, value, min, max, mean, sd, rate);
+        }
+    }
+
+    public static final class Summary {
+        private final int count;
+        private final double time;
+        private final double value;
+        private final double min;
+        private final double max;
+        private final double mean;
+        private final double stdDev;
+        private final double rate;
+
+        Summary(int count, double time, double value, double min, double max, double mean, double stdDev, double rate) {
+            this.count = count;
+            this.time = time;
+            this.value = value;
+            this.min = min;
+            this.max = max;
+            this.mean = mean;
+            this.stdDev = stdDev;
+            this.rate = rate;
+        }
+
+        /** Samples in the window. */
+        public int getCount() { return count; }
+        public double getTime() { return time; }
+        public double getValue() { return value; }
+        public double getMin() { return min; }
+        public double getMax() { return max; }
+        public double getMean() { return mean; }
+        public double getStdDev() { return stdDev; }
+        /** Change per simulated second over the rate span. */
+        public double getRate() { return rate; }
+
+        /**
+         * Simulated seconds until the signal reaches {@code threshold} from below at the current rate:
+         * 0 if it already has, infinite if it is not rising.
+         */
+        public double secondsUntil(double threshold) {
+            if (value >= threshold) return 0.0;
+            return rate > 0 ? (threshold - value) / rate : Double.POSITIVE_INFINITY;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.reactor.simulator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import static com.reactor.simulator.RunRecordingFormat.*;
+
+/**
+ * Read-only view of a binary run recording. The data blocks are memory-mapped (in segments of up to
+ * 1 GiB, so recordings larger than 2 GiB work) and the per-block time index is loaded on open, so
+ * seeking to a simulated time is two binary searches and touches only the pages it reads.
+ */
+public class RunRecording implements RecordedRun, Closeable {
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final double dt;
+    private final double[] params = new double[PARAM_COUNT];
+    private final long createdMillis;
+    private final long rowCount;
+    private final int rowsPerBlock;
+    private final long blockBytes;
+    private final double[] blockFirstTime;
+    private final double[] blockLastTime;
+    private final ByteBuffer[] segments;
+    private final int blocksPerSegment;
+
+    private RunRecording(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ORDER);
+        if (header.getLong(OFF_MAGIC) != MAGIC) throw new IOException("Not a run recording");
+        if (header.getInt(OFF_VERSION) != VERSION) throw new IOException("Unsupported recording version " + header.getInt(OFF_VERSION));
+        int columns = header.getInt(OFF_COLUMNS);
+        if (columns != TelemetryStore.COLUMNS) throw new IOException("Unexpected column count " + columns);
+        rowsPerBlock = header.getInt(OFF_ROWS_PER_BLOCK);
+        dt = header.getDouble(OFF_DT);
+        for (int i = 0; i < PARAM_COUNT; i++) params[i] = header.getDouble(OFF_PARAMS + i * Double.BYTES);
+        createdMillis = header.getLong(OFF_CREATED);
+        rowCount = header.getLong(OFF_ROW_COUNT);
+        long blocks = header.getLong(OFF_BLOCK_COUNT);
+        long indexOffset = header.getLong(OFF_INDEX);
+        if (indexOffset == 0 && rowCount == 0 && channel.size() > HEADER_BYTES) {
+            throw new IOException("Recording was not closed cleanly");
+        }
+        blockBytes = blockBytes(columns, rowsPerBlock);
+
+        blockFirstTime = new double[(int) blocks];
+        blockLastTime = new double[(int) blocks];
+        if (blocks > 0) {
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, blocks * INDEX_ENTRY_BYTES).order(ORDER);
+            for (int i = 0; i < blocks; i++) {
+                blockFirstTime[i] = index.getDouble(i * INDEX_ENTRY_BYTES);
+                blockLastTime[i] = index.getDouble(i * INDEX_ENTRY_BYTES + Double.BYTES);
+            }
+        }
+
+        blocksPerSegment = (int) Math.max(1, MAX_SEGMENT_BYTES / blockBytes);
+        int segmentCount = (int) ((blocks + blocksPerSegment - 1) / blocksPerSegment);
+        segments = new ByteBuffer[segmentCount];
+        for (int s = 0; s < segmentCount; s++) {
+            long firstBlock = (long) s * blocksPerSegment;
+            long n = Math.min(blocksPerSegment, blocks - firstBlock);
+            segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + firstBlock * blockBytes,
+                    n * blockBytes).order(ORDER);
+        }
+    }
+
+    public static RunRecording open(File file) throws IOException {
+        FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return new RunRecording(ch);
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    public long size() { return rowCount; }
+    public double getDt() { return dt; }
+    public long getCreatedMillis() { return createdMillis; }
+
+    public double getInitialCoreTemp() { return params[P_INITIAL_CORE_TEMP]; }
+    public double getNominalPower() { return params[P_NOMINAL_POWER]; }
+    public double getCoreMass() { return params[P_CORE_MASS]; }
+    public double getCoreSpecificHeat() { return params[P_CORE_SPECIFIC_HEAT]; }
+    public double getUCore() { return params[P_U_CORE]; }
+    public double getInitialCoolantTemp() { return params[P_INITIAL_COOLANT_TEMP]; }
+    public double getCoolantMass() { return params[P_COOLANT_MASS]; }
+    public double getCoolantSpecificHeat() { return params[P_COOLANT_SPECIFIC_HEAT]; }
+    public double getSinkTemp() { return params[P_SINK_TEMP]; }
+    public double getUCoolant() { return params[P_U_COOLANT]; }
+
+    public double getStartTime() { return rowCount == 0 ? Double.NaN : blockFirstTime[0]; }
+    public double getEndTime() { return rowCount == 0 ? Double.NaN : blockLastTime[blockLastTime.length - 1]; }
+
+    public double get(int column, long row) {
+        if (row < 0 || row >= rowCount) throw new IndexOutOfBoundsException("row " + row);
+        long block = row / rowsPerBlock;
+        int seg = (int) (block / blocksPerSegment);
+        long offset = (block % blocksPerSegment) * blockBytes
+                + ((long) column * rowsPerBlock + row % rowsPerBlock) * Double.BYTES;
+        return segments[seg].getDouble((int) offset);
+    }
+
+    /** First row whose time is >= {@code t}, or {@link #size()} if none. */
+    public long indexOfTime(double t) {
+        int lo = 0, hi = blockLastTime.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (blockLastTime[mid] < t) lo = mid + 1;
+            else hi = mid;
+        }
+        if (lo == blockLastTime.length) return rowCount;
+        long from = (long) lo * rowsPerBlock;
+        long to = Math.min(rowCount, from + rowsPerBlock);
+        while (from < to) {
+            long mid = (from + to) >>> 1;
+            if (get(TelemetryStore.TIME, mid) < t) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    /** Copies up to {@code len} values of one column starting at {@code from}; returns the count copied. */
+    public int read(int column, long from, double[] dst, int off, int len) {
+        long end = Math.min(rowCount, from + len);
+        int n = 0;
+        for (long row = Math.max(0, from); row < end; row++) dst[off + n++] = get(column, row);
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
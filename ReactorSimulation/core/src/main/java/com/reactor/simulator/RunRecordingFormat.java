@@ -0,0 +1,56 @@
+package com.reactor.simulator;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of a binary run recording ({@value #EXTENSION} file). All values little-endian.
+ * <pre>
+ * header  (256 bytes)  magic, version, columns, rows per block, dt, model parameters,
+ *                      creation time, row count, block count, index offset
+ * blocks               block i starts at HEADER_BYTES + i * blockBytes; inside a block each
+ *                      column is a contiguous run of rowsPerBlock doubles (the last block is padded)
+ * index                per block: time of its first and last row
+ * </pre>
+ * Columns are those of {@link TelemetryStore}. Row count and index offset are written on close.
+ */
+final class RunRecordingFormat {
+    static final String EXTENSION = ".rsim";
+    static final long MAGIC = 0x3143_4552_4D49_5352L; // "RSIMREC1" read as a little-endian long
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 256;
+    static final int ROWS_PER_BLOCK = 4096;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // header field offsets
+    static final int OFF_MAGIC = 0;
+    static final int OFF_VERSION = 8;
+    static final int OFF_COLUMNS = 12;
+    static final int OFF_ROWS_PER_BLOCK = 16;
+    static final int OFF_DT = 24;
+    static final int OFF_PARAMS = 32;          // PARAM_COUNT doubles
+    static final int PARAM_COUNT = 10;
+    static final int OFF_CREATED = 112;
+    static final int OFF_ROW_COUNT = 120;
+    static final int OFF_BLOCK_COUNT = 128;
+    static final int OFF_INDEX = 136;
+
+    // model parameter slots
+    static final int P_INITIAL_CORE_TEMP = 0;
+    static final int P_NOMINAL_POWER = 1;
+    static final int P_CORE_MASS = 2;
+    static final int P_CORE_SPECIFIC_HEAT = 3;
+    static final int P_U_CORE = 4;
+    static final int P_INITIAL_COOLANT_TEMP = 5;
+    static final int P_COOLANT_MASS = 6;
+    static final int P_COOLANT_SPECIFIC_HEAT = 7;
+    static final int P_SINK_TEMP = 8;
+    static final int P_U_COOLANT = 9;
+
+    static final int INDEX_ENTRY_BYTES = 16;
+
+    private RunRecordingFormat() {}
+
+    static long blockBytes(int columns, int rowsPerBlock) {
+        return (long) columns * rowsPerBlock * Double.BYTES;
+    }
+}
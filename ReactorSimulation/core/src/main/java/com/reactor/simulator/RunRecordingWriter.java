@@ -0,0 +1,168 @@
+package com.reactor.simulator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static com.reactor.simulator.RunRecordingFormat.*;
+
+/**
+ * Writes a binary run recording (see {@link RunRecordingFormat}). Samples are staged into one
+ * columnar block in memory and written through the FileChannel a block (4096 rows) at a time.
+ * Can be registered with {@link SimulationEngine#addListener} or fed from a {@link TelemetryStore}.
+ * Times must not decrease, since the block index is searched by time; a listener that sees time
+ * go back (reset, restore) ends the recording with an error instead.
+ */
+public class RunRecordingWriter implements SimulationListener, Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer block;
+    private final long blockBytes;
+    private final double nominalPower;
+
+    private long rows = 0;
+    private int rowInBlock = 0;
+    private long blocks = 0;
+    private double[] blockFirstTime = new double[64];
+    private double[] blockLastTime = new double[64];
+    private double lastTime = Double.NEGATIVE_INFINITY;
+
+    private volatile boolean closed = false;
+    private volatile boolean inSample = false;
+    private volatile IOException error;
+
+    public RunRecordingWriter(File file, double dt, ReactorModel reactor, CoolantModel coolant) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.blockBytes = blockBytes(TelemetryStore.COLUMNS, ROWS_PER_BLOCK);
+        this.block = ByteBuffer.allocateDirect((int) blockBytes).order(ORDER);
+        this.nominalPower = reactor.getNominalPower();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+        header.putLong(OFF_MAGIC, MAGIC);
+        header.putInt(OFF_VERSION, VERSION);
+        header.putInt(OFF_COLUMNS, TelemetryStore.COLUMNS);
+        header.putInt(OFF_ROWS_PER_BLOCK, ROWS_PER_BLOCK);
+        header.putDouble(OFF_DT, dt);
+        double[] p = new double[PARAM_COUNT];
+        p[P_INITIAL_CORE_TEMP] = reactor.getCoreTemp();
+        p[P_NOMINAL_POWER] = reactor.getNominalPower();
+        p[P_CORE_MASS] = reactor.getCoreMass();
+        p[P_CORE_SPECIFIC_HEAT] = reactor.getCoreSpecificHeat();
+        p[P_U_CORE] = reactor.getUCoreToCoolant();
+        p[P_INITIAL_COOLANT_TEMP] = coolant.getCoolantTemp();
+        p[P_COOLANT_MASS] = coolant.getCoolantMass();
+        p[P_COOLANT_SPECIFIC_HEAT] = coolant.getCoolantSpecificHeat();
+        p[P_SINK_TEMP] = coolant.getSinkTemp();
+        p[P_U_COOLANT] = coolant.getUCoreToCoolant();
+        for (int i = 0; i < PARAM_COUNT; i++) header.putDouble(OFF_PARAMS + i * Double.BYTES, p[i]);
+        header.putLong(OFF_CREATED, System.currentTimeMillis());
+        writeFully(header, 0);
+    }
+
+    /** Writes every row of {@code store} to a new recording. */
+    public static void write(File file, TelemetryStore store, double dt, ReactorModel reactor, CoolantModel coolant)
+            throws IOException {
+        try (RunRecordingWriter w = new RunRecordingWriter(file, dt, reactor, coolant)) {
+            IOException[] failure = new IOException[1];
+            store.forEach(0, store.size(), (row, t, core, cool, rod, flow, power) -> {
+                if (failure[0] != null) return;
+                try {
+                    w.append(t, core, cool, rod, flow, power);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) throw failure[0];
+        }
+    }
+
+    @Override
+    public void onUpdate(double coreTemp, double coolantTemp) {
+        onSample(Double.NaN, coreTemp, coolantTemp, Double.NaN, Double.NaN);
+    }
+
+    @Override
+    public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+        inSample = true;
+        try {
+            if (!closed && error == null) {
+                append(simTime, coreTemp, coolantTemp, rodPosition, flowRate, nominalPower * (1.0 - rodPosition));
+            }
+        } catch (IOException e) {
+            error = e;
+        } catch (IllegalArgumentException e) {
+            error = new IOException("simulated time went back; recording ended", e);
+        } finally {
+            inSample = false;
+        }
+    }
+
+    /** Adds a row; throws IllegalArgumentException if {@code time} is earlier than the previous row's. */
+    public void append(double time, double core, double coolant, double rod, double flow, double power) throws IOException {
+        if (time < lastTime) throw new IllegalArgumentException("time " + time + " is before the previous row's " + lastTime);
+        if (!Double.isNaN(time)) lastTime = time;
+        int base = rowInBlock * Double.BYTES;
+        int columnBytes = ROWS_PER_BLOCK * Double.BYTES;
+        block.putDouble(base, time);
+        block.putDouble(columnBytes + base, core);
+        block.putDouble(2 * columnBytes + base, coolant);
+        block.putDouble(3 * columnBytes + base, rod);
+        block.putDouble(4 * columnBytes + base, flow);
+        block.putDouble(5 * columnBytes + base, power);
+        if (rowInBlock == 0) {
+            if (blocks == blockFirstTime.length) {
+                blockFirstTime = Arrays.copyOf(blockFirstTime, blockFirstTime.length * 2);
+                blockLastTime = Arrays.copyOf(blockLastTime, blockLastTime.length * 2);
+            }
+            blockFirstTime[(int) blocks] = time;
+        }
+        blockLastTime[(int) blocks] = time;
+        rows++;
+        if (++rowInBlock == ROWS_PER_BLOCK) flushBlock();
+    }
+
+    public long getRows() { return rows; }
+    public IOException getError() { return error; }
+
+    /** Writes the last partial block, the time index and the final header fields. */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        while (inSample) Thread.onSpinWait();
+        try {
+            if (error != null) throw error;
+            if (rowInBlock > 0) flushBlock();
+            long indexOffset = HEADER_BYTES + blocks * blockBytes;
+            ByteBuffer index = ByteBuffer.allocate((int) (blocks * INDEX_ENTRY_BYTES)).order(ORDER);
+            for (int i = 0; i < blocks; i++) {
+                index.putDouble(blockFirstTime[i]);
+                index.putDouble(blockLastTime[i]);
+            }
+            index.flip();
+            writeFully(index, indexOffset);
+
+            ByteBuffer tail = ByteBuffer.allocate(24).order(ORDER);
+            tail.putLong(rows).putLong(blocks).putLong(indexOffset).flip();
+            writeFully(tail, OFF_ROW_COUNT);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        block.clear();
+        writeFully(block, HEADER_BYTES + blocks * blockBytes);
+        blocks++;
+        rowInBlock = 0;
+    }
+
+    private void writeFully(ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) position += channel.write(buf, position);
+    }
+}
@@ -0,0 +1,110 @@
+package com.reactor.simulator;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-producer/single-consumer ring of engine samples held in primitive columns. The engine
+ * publishes every tick without allocating or blocking; a consumer (normally the FX thread, once
+ * per frame) drains whatever arrived since its last call. If the consumer falls {@code capacity - 1}
+ * or more samples behind, the oldest samples are dropped rather than queued.
+ */
+public final class SampleRingBuffer {
+    private final int capacity;
+    private final int mask;
+    private final double[] time;
+    private final double[] core;
+    private final double[] coolant;
+    private final double[] rod;
+    private final double[] flow;
+
+    // count of samples ever published; written only by the producer
+    private final AtomicLong published = new AtomicLong();
+    // consumer-owned cursor and drop counter (volatile so other threads can read them for metrics)
+    private volatile long readSeq = 0;
+    private volatile long dropped = 0;
+
+    public SampleRingBuffer(int capacity) {
+        if (capacity < 2) throw new IllegalArgumentException("capacity < 2");
+        // drain keeps two slots clear of the producer, so anything smaller could never be read
+        int cap = Integer.highestOneBit(Math.max(capacity, 4) - 1) << 1;
+        this.capacity = cap;
+        this.mask = cap - 1;
+        time = new double[cap];
+        core = new double[cap];
+        coolant = new double[cap];
+        rod = new double[cap];
+        flow = new double[cap];
+    }
+
+    public int capacity() { return capacity; }
+
+    /** Producer side. */
+    public void publish(double t, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+        long seq = published.get();
+        int i = (int) seq & mask;
+        time[i] = t;
+        core[i] = coreTemp;
+        coolant[i] = coolantTemp;
+        rod[i] = rodPosition;
+        flow[i] = flowRate;
+        published.lazySet(seq + 1);
+    }
+
+    /**
+     * Consumer side: hands up to {@code max} unread samples, oldest first, to {@code sink.onSample}.
+     * Returns the number delivered.
+     */
+    public int drain(SimulationListener sink, int max) {
+        long from = readSeq;
+        int n = 0;
+        while (n < max) {
+            long head = published.get();
+            if (from >= head) break;
+            // the producer may be rewriting the slot at head - capacity, and the release of head does
+            // not stop its stores to the next slot becoming visible early: keep clear of both
+            if (head - from >= capacity - 1) {
+                long skipTo = head - capacity + 2;
+                dropped += skipTo - from;
+                from = skipTo;
+            }
+            int i = (int) from & mask;
+            double t = time[i], c = core[i], m = coolant[i], r = rod[i], f = flow[i];
+            VarHandle.acquireFence();
+            if (published.get() - from >= capacity - 1) continue; // lapped while reading, re-sync
+            from++;
+            readSeq = from;
+            n++;
+            sink.onSample(t, c, m, r, f);
+        }
+        readSeq = from;
+        return n;
+    }
+
+    /** Consumer side: delivers the newest sample without consuming anything. Returns false if none. */
+    public boolean readLatest(SimulationListener sink) {
+        while (true) {
+            long head = published.get();
+            if (head == 0) return false;
+            int i = (int) (head - 1) & mask;
+            double t = time[i], c = core[i], m = coolant[i], r = rod[i], f = flow[i];
+            VarHandle.acquireFence();
+            if (published.get() - head >= capacity - 1) continue;
+            sink.onSample(t, c, m, r, f);
+            return true;
+        }
+    }
+
+    /** Consumer side: discards everything published so far. */
+    public void skipToLatest() {
+        readSeq = published.get();
+    }
+
+    public long getPublished() { return published.get(); }
+    public long getDropped() { return dropped; }
+
+    /** Samples published but not yet drained (capped at capacity). */
+    public long getBacklog() {
+        return Math.min(capacity, published.get() - readSeq);
+    }
+}
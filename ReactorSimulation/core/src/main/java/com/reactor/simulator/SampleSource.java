@@ -0,0 +1,19 @@
+package com.reactor.simulator;
+
+/**
+ * Something that produces engine samples: the live {@link SimulationEngine} or a {@link ReplayEngine}.
+ * The UI drains {@link #getFeed()} once per frame; listeners are called on the source's own thread.
+ */
+public interface SampleSource {
+    SampleRingBuffer getFeed();
+
+    void addListener(SimulationListener listener);
+
+    void removeListener(SimulationListener listener);
+
+    void start();
+
+    void stop();
+
+    boolean isRunning();
+}
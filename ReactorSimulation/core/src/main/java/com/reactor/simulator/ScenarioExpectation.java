@@ -0,0 +1,120 @@
+package com.reactor.simulator;
+
+import java.util.Locale;
+
+/**
+ * One {@code expect} line of a {@link ScenarioScript}: a bound on a temperature (at a time, or its
+ * maximum, minimum or final value), or whether and by when the caution level or a SCRAM was reached.
+ */
+public final class ScenarioExpectation {
+    enum Subject { MAX, MIN, FINAL, AT, SCRAM, CAUTION }
+
+    private final Subject subject;
+    private final boolean negated;
+    private final double time;
+    private final boolean core;
+    private final String op;
+    private final double low;
+    private final double high;
+    private final String text;
+    private final int line;
+
+    private ScenarioExpectation(Subject subject, boolean negated, double time, boolean core, String op,
+                                double low, double high, String text, int line) {
+        this.subject = subject;
+        this.negated = negated;
+        this.time = time;
+        this.core = core;
+        this.op = op;
+        this.low = low;
+        this.high = high;
+        this.text = text;
+        this.line = line;
+    }
+
+    /** Simulated time an {@code at} expectation samples, NaN for the others. */
+    public double getTime() { return subject == Subject.AT ? time : Double.NaN; }
+    public String getText() { return text; }
+    public int getLine() { return line; }
+
+    static ScenarioExpectation parse(String[] w, int line) {
+        String text = String.join(" ", w);
+        int i = 1;
+        boolean negated = false;
+        if (w[i].equalsIgnoreCase("no")) {
+            negated = true;
+            i++;
+        }
+        String s = w[i++].toLowerCase(Locale.ROOT);
+        if (s.equals("scram") || s.equals("caution")) {
+            Subject subject = s.equals("scram") ? Subject.SCRAM : Subject.CAUTION;
+            double by = Double.POSITIVE_INFINITY;
+            if (i < w.length) {
+                if (!w[i].equalsIgnoreCase("by")) throw new IllegalArgumentException("expected 'by <time>'");
+                by = ScenarioScript.number(w[i + 1]);
+            }
+            return new ScenarioExpectation(subject, negated, by, true, null, 0, 0, text, line);
+        }
+        if (negated) throw new IllegalArgumentException("'no' only applies to scram and caution");
+
+        Subject subject;
+        double time = Double.NaN;
+        switch (s) {
+            case "max" -> subject = Subject.MAX;
+            case "min" -> subject = Subject.MIN;
+            case "final" -> subject = Subject.FINAL;
+            case "at" -> {
+                subject = Subject.AT;
+                time = ScenarioScript.number(w[i++]);
+            }
+            default -> throw new IllegalArgumentException("unknown expectation '" + s + "'");
+        }
+        String quantity = w[i++].toLowerCase(Locale.ROOT);
+        if (!quantity.equals("core") && !quantity.equals("coolant")) {
+            throw new IllegalArgumentException("expected core or coolant, got '" + quantity + "'");
+        }
+        String op = w[i++].toLowerCase(Locale.ROOT);
+        double low, high = Double.NaN;
+        switch (op) {
+            case "<", "<=", ">", ">=" -> low = ScenarioScript.number(w[i]);
+            case "between" -> {
+                low = ScenarioScript.number(w[i]);
+                high = ScenarioScript.number(w[i + 1]);
+            }
+            default -> throw new IllegalArgumentException("unknown comparison '" + op + "'");
+        }
+        return new ScenarioExpectation(subject, false, time, quantity.equals("core"), op, low, high, text, line);
+    }
+
+    /** Null when the run met this expectation, otherwise why not. {@code index} is its position in the script. */
+    String check(ScenarioScript.Observer run, int index) {
+        if (subject == Subject.SCRAM || subject == Subject.CAUTION) {
+            double at = subject == Subject.SCRAM ? run.scramTime : run.cautionTime;
+            boolean happened = !Double.isNaN(at) && at <= time + 1e-9;
+            if (happened != negated) return null;
+            String what = subject == Subject.SCRAM ? "SCRAM" : "caution";
+            String seen = Double.isNaN(at) ? "never reached" : String.format("reached at t=%.1fs", at);
+            return String.format("line %d: %s: %s %s", line, text, what, seen);
+        }
+
+        double v;
+        switch (subject) {
+            case MAX -> v = core ? run.peakCore : run.peakCoolant;
+            case MIN -> v = core ? run.minCore : run.minCoolant;
+            case FINAL -> v = core ? run.finalCore : run.finalCoolant;
+            default -> v = core ? run.coreAt[index] : run.coolantAt[index];
+        }
+        if (Double.isNaN(v)) return String.format("line %d: %s: run ended before t=%.1fs", line, text, time);
+        boolean ok = switch (op) {
+            case "<" -> v < low;
+            case "<=" -> v <= low;
+            case ">" -> v > low;
+            case ">=" -> v >= low;
+            default -> v >= low && v <= high;
+        };
+        return ok ? null : String.format("line %d: %s: was %.2f", line, text, v);
+    }
+
+    @Override
+    public String toString() { return text; }
+}
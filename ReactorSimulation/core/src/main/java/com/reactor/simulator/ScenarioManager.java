@@ -0,0 +1,44 @@
+package com.reactor.simulator;
+
+/**
+ * Timed scenarios on top of the engine: each one changes an actuator now and schedules the restore
+ * on the engine's timer wheel, so it falls due in simulated time and is carried by snapshots.
+ */
+public class ScenarioManager {
+    private final SimulationEngine engine;
+
+    // actuator changes go through the engine's command queue, so they land on a tick boundary
+    public ScenarioManager(SimulationEngine engine) {
+        this.engine = engine;
+    }
+
+    public void reactivitySpike(double durationSeconds, double newRodPosition) {
+        double prev = engine.getState().getControlRodPosition();
+        engine.setControlRodPosition(clamp(newRodPosition, 0.0, 1.0));
+        schedule(ScheduledAction.Target.ROD_POSITION, prev, durationSeconds, null);
+    }
+
+    public void coolantFailure(double durationSeconds) {
+        double prevFlow = engine.getState().getFlowRate();
+        engine.setFlowRate(0.0);
+        schedule(ScheduledAction.Target.FLOW_RATE, prevFlow, durationSeconds, null);
+    }
+
+    /**
+     * Sets {@code target} to {@code value} {@code delaySeconds} of simulated time from now, then runs
+     * {@code afterApply} if given (on the engine thread).
+     */
+    public SimTimer schedule(ScheduledAction.Target target, double value, double delaySeconds, Runnable afterApply) {
+        double due = engine.getSimTime() + Math.max(0.0, delaySeconds);
+        return engine.schedule(new ScheduledAction(target, value, due), afterApply);
+    }
+
+    public void cancelAll() {
+        engine.getTimers().cancelAll();
+    }
+
+    private double clamp(double v, double lo, double hi) {
+        if (Double.isNaN(v)) return lo;
+        return Math.max(lo, Math.min(hi, v));
+    }
+}
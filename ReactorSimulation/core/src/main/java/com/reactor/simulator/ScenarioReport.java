@@ -0,0 +1,67 @@
+package com.reactor.simulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Pass/fail summary of a {@link ScenarioSuite} run, one line per scenario plus the failed
+ * expectations underneath it.
+ */
+public class ScenarioReport {
+    private final List<ScenarioResult> results;
+    private final long wallNanos;
+    private final int threads;
+
+    ScenarioReport(List<ScenarioResult> results, long wallNanos, int threads) {
+        this.results = Collections.unmodifiableList(results);
+        this.wallNanos = wallNanos;
+        this.threads = threads;
+    }
+
+    public List<ScenarioResult> getResults() { return results; }
+    public long getWallNanos() { return wallNanos; }
+
+    public int getPassedCount() {
+        int n = 0;
+        for (ScenarioResult r : results) if (r.isPassed()) n++;
+        return n;
+    }
+
+    public int getFailedCount() { return results.size() - getPassedCount(); }
+
+    public String getSummary() {
+        return String.format("%d scenarios, %d passed, %d failed in %.2f s (%d threads)",
+                results.size(), getPassedCount(), getFailedCount(), wallNanos / 1e9, threads);
+    }
+
+    public String format() {
+        int width = 8;
+        for (ScenarioResult r : results) width = Math.max(width, r.getName().length());
+        StringBuilder sb = new StringBuilder();
+        String nl = System.lineSeparator();
+        sb.append("Scenario suite: ").append(getSummary()).append(nl);
+        for (ScenarioResult r : results) {
+            sb.append(r.isPassed() ? "PASS  " : "FAIL  ").append(String.format("%-" + width + "s", r.getName()));
+            if (r.getError() != null) {
+                sb.append("  ERROR").append(nl).append("      ").append(r.getError()).append(nl);
+                continue;
+            }
+            sb.append(String.format("  peak %7.1f C  scram %s  %8d ticks  %7.1f ms", r.getPeakCoreTemp(),
+                    Double.isNaN(r.getScramTime()) ? "     -" : String.format("%5.0fs", r.getScramTime()),
+                    r.getTicks(), r.getWallNanos() / 1e6)).append(nl);
+            for (String f : r.getFailures()) sb.append("      ").append(f).append(nl);
+        }
+        return sb.toString();
+    }
+
+    public void writeTo(File file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            out.write(format());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.reactor.simulator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of one {@link ScenarioScript} run: the expectations it failed, or the error that kept it
+ * from loading or running.
+ */
+public final class ScenarioResult {
+    private final String name;
+    private final List<String> failures;
+    private final String error;
+    private final double peakCoreTemp;
+    private final double scramTime;
+    private final long ticks;
+    private final long wallNanos;
+
+    ScenarioResult(String name, List<String> failures, String error, double peakCoreTemp, double scramTime,
+                   long ticks, long wallNanos) {
+        this.name = name;
+        this.failures = Collections.unmodifiableList(failures);
+        this.error = error;
+        this.peakCoreTemp = peakCoreTemp;
+        this.scramTime = scramTime;
+        this.ticks = ticks;
+        this.wallNanos = wallNanos;
+    }
+
+    static ScenarioResult error(String name, String error) {
+        return new ScenarioResult(name, Collections.emptyList(), error, Double.NaN, Double.NaN, 0, 0);
+    }
+
+    public String getName() { return name; }
+    public boolean isPassed() { return error == null && failures.isEmpty(); }
+    public List<String> getFailures() { return failures; }
+    /** Why the script could not be loaded or run, null if it ran. */
+    public String getError() { return error; }
+    public double getPeakCoreTemp() { return peakCoreTemp; }
+    /** Simulated time of the first SCRAM, NaN if there was none. */
+    public double getScramTime() { return scramTime; }
+    public long getTicks() { return ticks; }
+    public long getWallNanos() { return wallNanos; }
+}
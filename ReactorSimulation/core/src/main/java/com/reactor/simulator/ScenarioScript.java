@@ -0,0 +1,270 @@
+package com.reactor.simulator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A scripted transient: initial conditions, a timeline of actuator and threshold changes, and
+ * expectations on the temperatures. One directive per line, {@code #} starts a comment:
+ * <pre>
+ * name          loss-of-flow
+ * dt            0.5
+ * duration      600
+ * integrator    RK4
+ * set flow_rate 200            (any {@link EnsembleParameter}, lower case)
+ * at 10 flow 0                 (rod | flow | caution | critical | autoscram on/off | scram)
+ * expect max core &lt; 700        (max | min | final | at &lt;t&gt;; core | coolant; &lt; &lt;= &gt; &gt;= or between a b)
+ * expect scram by 120          (scram | caution, optionally "by &lt;t&gt;"; or "expect no scram")
+ * </pre>
+ * Automatic SCRAM mirrors {@link SimulationController}: rods in and emergency coolant injection once
+ * the core reaches the critical temperature. The run carries on after the trip so the cool-down can
+ * be checked. Times are simulated seconds. Parsed scripts are immutable and can run on any thread.
+ */
+public final class ScenarioScript {
+    enum Kind { ROD, FLOW, CAUTION, CRITICAL, AUTOSCRAM, SCRAM }
+
+    static final class Event {
+        final double time;
+        final Kind kind;
+        final double value;
+
+        Event(double time, Kind kind, double value) {
+            this.time = time;
+            this.kind = kind;
+            this.value = value;
+        }
+    }
+
+    private final String name;
+    private final double dt;
+    private final double durationSeconds;
+    private final IntegratorType integratorType;
+    private final double[] initial;
+    private final double emergencyFlow;
+    private final double emergencyDurationSeconds;
+    private final List<Event> timeline;
+    private final List<ScenarioExpectation> expectations;
+
+    private ScenarioScript(Parser b) {
+        this.name = b.name;
+        this.dt = b.dt;
+        this.durationSeconds = b.duration;
+        this.integratorType = b.integrator;
+        this.initial = b.initial.clone();
+        this.emergencyFlow = b.emergencyFlow;
+        this.emergencyDurationSeconds = b.emergencyDuration;
+        this.timeline = Collections.unmodifiableList(new ArrayList<>(b.timeline));
+        this.expectations = Collections.unmodifiableList(new ArrayList<>(b.expectations));
+    }
+
+    public String getName() { return name; }
+    public double getDt() { return dt; }
+    public double getDurationSeconds() { return durationSeconds; }
+    public IntegratorType getIntegratorType() { return integratorType; }
+    public double getInitial(EnsembleParameter parameter) { return initial[parameter.ordinal()]; }
+    public int getEventCount() { return timeline.size(); }
+    public List<ScenarioExpectation> getExpectations() { return expectations; }
+
+    public static ScenarioScript parse(File file) throws IOException {
+        String name = file.getName();
+        int dot = name.lastIndexOf('.');
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            return parse(reader, dot > 0 ? name.substring(0, dot) : name, file.getName());
+        }
+    }
+
+    /** Parses a script; {@code defaultName} is used when it has no {@code name} line. */
+    public static ScenarioScript parse(Reader in, String defaultName, String source) throws IOException {
+        BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        Parser b = new Parser(defaultName);
+        String line;
+        int lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            int hash = line.indexOf('#');
+            if (hash >= 0) line = line.substring(0, hash);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+            String[] w = line.split("\\s+");
+            try {
+                b.directive(w, lineNo);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                String msg = e instanceof IndexOutOfBoundsException ? "incomplete directive" : e.getMessage();
+                throw new IOException(source + ":" + lineNo + ": " + msg);
+            }
+        }
+        if (!(b.duration > 0)) throw new IOException(source + ": duration must be > 0");
+        return new ScenarioScript(b);
+    }
+
+    /** Runs the script headless on the calling thread. */
+    public ScenarioResult run() {
+        long startNanos = System.nanoTime();
+        double u = getInitial(EnsembleParameter.U_CORE_TO_COOLANT);
+        ReactorModel reactor = new ReactorModel(getInitial(EnsembleParameter.INITIAL_CORE_TEMP),
+                getInitial(EnsembleParameter.NOMINAL_POWER), getInitial(EnsembleParameter.CORE_MASS),
+                getInitial(EnsembleParameter.CORE_SPECIFIC_HEAT), u);
+        CoolantModel coolant = new CoolantModel(getInitial(EnsembleParameter.INITIAL_COOLANT_TEMP),
+                getInitial(EnsembleParameter.COOLANT_MASS), getInitial(EnsembleParameter.COOLANT_SPECIFIC_HEAT),
+                getInitial(EnsembleParameter.SINK_TEMP), u);
+        reactor.setControlRodPosition(getInitial(EnsembleParameter.ROD_POSITION));
+        coolant.setFlowRate(getInitial(EnsembleParameter.FLOW_RATE));
+
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, dt);
+        engine.setIntegrator(integratorType.create());
+        Observer obs = new Observer(engine, coolant, reactor.getCoreTemp(), coolant.getCoolantTemp());
+        for (Event e : timeline) {
+            switch (e.kind) {
+                case ROD -> engine.schedule(ScheduledAction.rodPosition(e.value, e.time), null);
+                case FLOW -> engine.schedule(ScheduledAction.flowRate(e.value, e.time), null);
+                case CAUTION -> engine.schedule(e.time, () -> obs.cautionTemp = e.value);
+                case CRITICAL -> engine.schedule(e.time, () -> obs.criticalTemp = e.value);
+                case AUTOSCRAM -> engine.schedule(e.time, () -> obs.autoScram = e.value != 0);
+                case SCRAM -> engine.schedule(e.time, () -> obs.scram(engine.getSimTime()));
+            }
+        }
+        SimulationTrace trace = engine.runHeadless(durationSeconds, obs, 0);
+
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < expectations.size(); i++) {
+            String failure = expectations.get(i).check(obs, i);
+            if (failure != null) failures.add(failure);
+        }
+        return new ScenarioResult(name, failures, null, obs.peakCore, obs.scramTime, trace.getTicks(),
+                System.nanoTime() - startNanos);
+    }
+
+    /** What a run saw, for the expectations. Filled in on the running thread only. */
+    final class Observer implements StopCondition {
+        private final SimulationEngine engine;
+        private final CoolantModel coolant;
+        double cautionTemp = 500.0;
+        double criticalTemp = 700.0;
+        boolean autoScram = true;
+
+        double peakCore, minCore, peakCoolant, minCoolant, finalCore, finalCoolant;
+        double cautionTime = Double.NaN;
+        double scramTime = Double.NaN;
+        // per expectation: the sample at its time, for "at" checks
+        final double[] coreAt = new double[expectations.size()];
+        final double[] coolantAt = new double[expectations.size()];
+
+        Observer(SimulationEngine engine, CoolantModel coolant, double core, double cool) {
+            this.engine = engine;
+            this.coolant = coolant;
+            peakCore = minCore = finalCore = core;
+            peakCoolant = minCoolant = finalCoolant = cool;
+            Arrays.fill(coreAt, Double.NaN);
+            Arrays.fill(coolantAt, Double.NaN);
+            sampleAt(0.0, core, cool);
+        }
+
+        @Override
+        public boolean shouldStop(double simTime, double coreTemp, double coolantTemp) {
+            peakCore = Math.max(peakCore, coreTemp);
+            minCore = Math.min(minCore, coreTemp);
+            peakCoolant = Math.max(peakCoolant, coolantTemp);
+            minCoolant = Math.min(minCoolant, coolantTemp);
+            finalCore = coreTemp;
+            finalCoolant = coolantTemp;
+            sampleAt(simTime, coreTemp, coolantTemp);
+            if (coreTemp >= cautionTemp && Double.isNaN(cautionTime)) cautionTime = simTime;
+            if (autoScram && coreTemp >= criticalTemp && Double.isNaN(scramTime)) scram(simTime);
+            return false;
+        }
+
+        private void sampleAt(double simTime, double core, double cool) {
+            for (int i = 0; i < coreAt.length; i++) {
+                double t = expectations.get(i).getTime();
+                if (Double.isNaN(coreAt[i]) && !Double.isNaN(t) && simTime >= t - 1e-9) {
+                    coreAt[i] = core;
+                    coolantAt[i] = cool;
+                }
+            }
+        }
+
+        // same actions as SimulationController.monitorSafety, without stopping the run
+        void scram(double simTime) {
+            if (!Double.isNaN(scramTime)) return;
+            scramTime = simTime;
+            double prevFlow = coolant.getFlowRate();
+            engine.setControlRodPosition(1.0);
+            engine.setFlowRate(emergencyFlow);
+            engine.schedule(ScheduledAction.flowRate(prevFlow, simTime + emergencyDurationSeconds), null);
+        }
+    }
+
+    private static final class Parser {
+        String name;
+        double dt = 0.5;
+        double duration = Double.NaN;
+        IntegratorType integrator = IntegratorType.EULER;
+        final double[] initial = new double[EnsembleParameter.values().length];
+        double emergencyFlow = 1000.0;
+        double emergencyDuration = 10.0;
+        final List<Event> timeline = new ArrayList<>();
+        final List<ScenarioExpectation> expectations = new ArrayList<>();
+
+        Parser(String name) {
+            this.name = name;
+            for (EnsembleParameter p : EnsembleParameter.values()) initial[p.ordinal()] = p.getDefaultValue();
+        }
+
+        void directive(String[] w, int lineNo) {
+            switch (w[0].toLowerCase(Locale.ROOT)) {
+                case "name" -> name = String.join(" ", Arrays.copyOfRange(w, 1, w.length));
+                case "dt" -> {
+                    dt = number(w[1]);
+                    if (!(dt > 0)) throw new IllegalArgumentException("dt must be > 0");
+                }
+                case "duration" -> duration = number(w[1]);
+                case "integrator" -> integrator = IntegratorType.valueOf(w[1].toUpperCase(Locale.ROOT));
+                case "set" -> initial[EnsembleParameter.valueOf(w[1].toUpperCase(Locale.ROOT)).ordinal()] = number(w[2]);
+                case "emergency_flow" -> emergencyFlow = number(w[1]);
+                case "emergency_duration" -> emergencyDuration = number(w[1]);
+                case "at" -> timeline.add(event(number(w[1]), w));
+                case "expect" -> expectations.add(ScenarioExpectation.parse(w, lineNo));
+                default -> throw new IllegalArgumentException("unknown directive '" + w[0] + "'");
+            }
+        }
+
+        private static Event event(double time, String[] w) {
+            Kind kind;
+            try {
+                kind = Kind.valueOf(w[2].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown event '" + w[2] + "'");
+            }
+            double value;
+            if (kind == Kind.SCRAM) value = 1.0;
+            else if (kind == Kind.AUTOSCRAM) value = onOff(w[3]) ? 1.0 : 0.0;
+            else value = number(w[3]);
+            return new Event(time, kind, value);
+        }
+
+        private static boolean onOff(String s) {
+            switch (s.toLowerCase(Locale.ROOT)) {
+                case "on", "true" -> { return true; }
+                case "off", "false" -> { return false; }
+                default -> throw new IllegalArgumentException("expected on/off, got '" + s + "'");
+            }
+        }
+    }
+
+    static double number(String s) {
+        try {
+            return Double.parseDouble(s);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: '" + s + "'");
+        }
+    }
+}
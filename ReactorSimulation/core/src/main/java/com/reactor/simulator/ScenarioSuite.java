@@ -0,0 +1,74 @@
+package com.reactor.simulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Runs every {@code *.scenario} file in a directory headless and in parallel on a fork-join pool.
+ * Each script builds its own models and engine, so runs share nothing. From the command line:
+ * {@code java -cp ... com.reactor.simulator.ScenarioSuite <dir> [report.txt]}; the exit status is
+ * non-zero if any scenario failed.
+ */
+public class ScenarioSuite {
+    public static final String EXTENSION = ".scenario";
+
+    private final ForkJoinPool pool;
+
+    public ScenarioSuite() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ScenarioSuite(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ScenarioReport run(File dir) throws IOException {
+        File[] files = dir.listFiles((d, n) -> n.endsWith(EXTENSION));
+        if (files == null) throw new IOException("Not a directory: " + dir);
+        Arrays.sort(files);
+        return run(Arrays.asList(files));
+    }
+
+    /** Runs {@code files}; the report lists them in the given order whatever order they finish in. */
+    public ScenarioReport run(List<File> files) {
+        long start = System.nanoTime();
+        List<ForkJoinTask<ScenarioResult>> tasks = new ArrayList<>(files.size());
+        for (File f : files) tasks.add(ForkJoinTask.adapt(() -> runFile(f)));
+        // invokeAll forks onto the current worker's pool, so it is started from inside ours
+        pool.submit(() -> { ForkJoinTask.invokeAll(tasks); }).join();
+        List<ScenarioResult> results = new ArrayList<>(files.size());
+        for (ForkJoinTask<ScenarioResult> t : tasks) results.add(t.join());
+        return new ScenarioReport(results, System.nanoTime() - start, pool.getParallelism());
+    }
+
+    static ScenarioResult runFile(File file) {
+        ScenarioScript script;
+        try {
+            script = ScenarioScript.parse(file);
+        } catch (IOException e) {
+            String name = file.getName();
+            return ScenarioResult.error(name.substring(0, name.length() - EXTENSION.length()), e.getMessage());
+        }
+        try {
+            return script.run();
+        } catch (RuntimeException e) {
+            return ScenarioResult.error(script.getName(), e.toString());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: ScenarioSuite <scenario-dir> [report-file]");
+            System.exit(2);
+        }
+        ScenarioReport report = new ScenarioSuite().run(new File(args[0]));
+        System.out.print(report.format());
+        if (args.length > 1) report.writeTo(new File(args[1]));
+        System.exit(report.getFailedCount() == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.reactor.simulator;
+
+/**
+ * An actuator change due at a simulated time, e.g. the restore step of a scenario or a SCRAM in a
+ * what-if branch. Immutable, so it can be shared between snapshots and forks.
+ */
+public final class ScheduledAction {
+    public enum Target { ROD_POSITION, FLOW_RATE }
+
+    private final Target target;
+    private final double value;
+    private final double dueTime;
+
+    public ScheduledAction(Target target, double value, double dueTime) {
+        if (target == null) throw new IllegalArgumentException("target");
+        this.target = target;
+        this.value = value;
+        this.dueTime = dueTime;
+    }
+
+    public static ScheduledAction rodPosition(double position, double dueTime) {
+        return new ScheduledAction(Target.ROD_POSITION, position, dueTime);
+    }
+
+    public static ScheduledAction flowRate(double flow, double dueTime) {
+        return new ScheduledAction(Target.FLOW_RATE, flow, dueTime);
+    }
+
+    public Target getTarget() { return target; }
+    public double getValue() { return value; }
+    public double getDueTime() { return dueTime; }
+
+    public void apply(ReactorModel reactor, CoolantModel coolant) {
+        if (target == Target.ROD_POSITION) reactor.setControlRodPosition(value);
+        else coolant.setFlowRate(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s=%.3f @ %.2fs", target, value, dueTime);
+    }
+}
@@ -0,0 +1,55 @@
+package com.reactor.simulator;
+
+/**
+ * Resource limits a {@link SessionManager} applies to each of its sessions, and to how many it
+ * hosts at once.
+ */
+public class SessionLimits {
+    private int maxSessions = 500;
+    private double maxTimeScale = 10.0;
+    // 6 doubles (48 B) per sample, reserved a chunk at a time: 50k samples fill 25 chunks of
+    // 2048 rows, about 2.5 MB, or ~7 h at dt = 0.5 s and 1x; an idle session holds none
+    private long maxTelemetrySamples = 50_000L;
+    private int telemetryChunkRows = 2048;
+    // nothing drains a hosted session's feed unless a viewer attaches, so it only needs a little slack
+    private int feedCapacity = 256;
+
+    public int getMaxSessions() { return maxSessions; }
+    public SessionLimits setMaxSessions(int maxSessions) {
+        if (maxSessions < 1) throw new IllegalArgumentException("maxSessions < 1");
+        this.maxSessions = maxSessions;
+        return this;
+    }
+
+    /** Fastest simulated-to-wall-clock ratio a session may run at. */
+    public double getMaxTimeScale() { return maxTimeScale; }
+    public SessionLimits setMaxTimeScale(double maxTimeScale) {
+        if (!(maxTimeScale > 0)) throw new IllegalArgumentException("maxTimeScale must be > 0");
+        this.maxTimeScale = maxTimeScale;
+        return this;
+    }
+
+    /** Recorded samples after which a session is stopped until it is reset. */
+    public long getMaxTelemetrySamples() { return maxTelemetrySamples; }
+    public SessionLimits setMaxTelemetrySamples(long maxTelemetrySamples) {
+        if (maxTelemetrySamples < 1) throw new IllegalArgumentException("maxTelemetrySamples < 1");
+        this.maxTelemetrySamples = maxTelemetrySamples;
+        return this;
+    }
+
+    /** Rows per telemetry chunk (rounded up to a power of two), the step in which a session's memory grows. */
+    public int getTelemetryChunkRows() { return telemetryChunkRows; }
+    public SessionLimits setTelemetryChunkRows(int telemetryChunkRows) {
+        if (telemetryChunkRows < 1) throw new IllegalArgumentException("telemetryChunkRows < 1");
+        this.telemetryChunkRows = telemetryChunkRows;
+        return this;
+    }
+
+    /** Samples each session's engine keeps in its feed for a consumer that drains it. */
+    public int getFeedCapacity() { return feedCapacity; }
+    public SessionLimits setFeedCapacity(int feedCapacity) {
+        if (feedCapacity < 2) throw new IllegalArgumentException("feedCapacity < 2");
+        this.feedCapacity = feedCapacity;
+        return this;
+    }
+}
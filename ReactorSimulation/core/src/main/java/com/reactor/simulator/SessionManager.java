@@ -0,0 +1,129 @@
+package com.reactor.simulator;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many independent {@link SimulationSession}s in one JVM, e.g. one per trainee. Each session
+ * ticks on its own virtual thread, so hundreds of mostly-parked real-time loops cost a few carrier
+ * threads rather than hundreds of platform threads. Sessions keep their event log in memory only
+ * and are held to the manager's {@link SessionLimits}.
+ */
+public class SessionManager implements Closeable {
+    private final SessionLimits limits;
+    private final Map<String, SimulationSession> sessions = new ConcurrentHashMap<>();
+    // reserved before a session is built, so concurrent creates cannot overshoot the limit
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ThreadFactory engineThreads = Thread.ofVirtual().name("session-engine-", 0).factory();
+    private volatile boolean closed = false;
+
+    public SessionManager() {
+        this(new SessionLimits());
+    }
+
+    public SessionManager(SessionLimits limits) {
+        if (limits == null) throw new IllegalArgumentException("limits");
+        this.limits = limits;
+    }
+
+    public SessionLimits getLimits() { return limits; }
+
+    /** A new, stopped session running the default plant. */
+    public SimulationSession create() {
+        return create(new ReactorModel(300.0, 2.0e7, 5.0e4, 500.0, 1.0e5),
+                new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5), 0.5);
+    }
+
+    /** A new, stopped session around the given models; throws IllegalStateException at the session limit. */
+    public SimulationSession create(ReactorModel reactor, CoolantModel coolant, double dt) {
+        if (closed) throw new IllegalStateException("SessionManager is closed");
+        if (reserved.incrementAndGet() > limits.getMaxSessions()) {
+            reserved.decrementAndGet();
+            throw new IllegalStateException("Session limit of " + limits.getMaxSessions() + " reached");
+        }
+        try {
+            SimulationEngine engine = new SimulationEngine(reactor, coolant, dt, limits.getFeedCapacity());
+            engine.setThreadFactory(engineThreads);
+            engine.setMaxTimeScale(limits.getMaxTimeScale());
+            SimulationSession session = new SimulationSession("s" + nextId.getAndIncrement(), reactor, coolant, engine,
+                    new TelemetryStore(false, limits.getTelemetryChunkRows()));
+            SimulationController controller = session.getController();
+            controller.getEventLog().setEchoToStdout(false);
+
+            // after the controller's own listener, so the sample just recorded is counted
+            long maxSamples = limits.getMaxTelemetrySamples();
+            engine.addListener(new SimulationListener() {
+                @Override
+                public void onUpdate(double coreTemp, double coolantTemp) { }
+
+                @Override
+                public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+                    if (controller.getTelemetry().size() >= maxSamples) {
+                        engine.stop();
+                        controller.getEventLog().append("Session stopped: telemetry limit of " + maxSamples + " samples reached");
+                    }
+                }
+            });
+            sessions.put(session.getId(), session);
+            return session;
+        } catch (RuntimeException e) {
+            reserved.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public SimulationSession get(String id) { return sessions.get(id); }
+    public Collection<SimulationSession> getSessions() { return List.copyOf(sessions.values()); }
+    public int getSessionCount() { return sessions.size(); }
+
+    /** Stops and discards a session; returns false if there was none with that id. */
+    public boolean destroy(String id) {
+        SimulationSession session = sessions.remove(id);
+        if (session == null) return false;
+        try {
+            session.close();
+        } finally {
+            reserved.decrementAndGet();
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (String id : new ArrayList<>(sessions.keySet())) destroy(id);
+    }
+
+    /** Load check: {@code SessionManager [sessions] [seconds] [timeScale]}. */
+    public static void main(String[] args) throws InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : 10L;
+        double scale = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        SessionLimits limits = new SessionLimits().setMaxSessions(count).setMaxTimeScale(scale);
+        SessionManager manager = new SessionManager(limits);
+        long t0 = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            SimulationSession s = manager.create();
+            s.getController().setTimeScale(scale);
+            s.getController().startSimulation();
+        }
+        long created = System.nanoTime();
+        Thread.sleep(seconds * 1000L);
+        long ticks = 0;
+        for (SimulationSession s : manager.getSessions()) ticks += s.getEngine().getTick();
+        long expected = (long) (count * seconds * scale / 0.5);
+        long t1 = System.nanoTime();
+        manager.close();
+        long closedAt = System.nanoTime();
+        System.out.printf("%d sessions: created in %.1f ms, %d ticks in %ds (%.1f%% of real time), torn down in %.1f ms%n",
+                count, (created - t0) / 1e6, ticks, seconds, 100.0 * ticks / expected, (closedAt - t1) / 1e6);
+    }
+}
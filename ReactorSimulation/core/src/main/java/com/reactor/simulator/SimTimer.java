@@ -0,0 +1,33 @@
+package com.reactor.simulator;
+
+/**
+ * Handle for an event on the engine's {@link SimTimerWheel}: an optional actuator change and an
+ * optional callback, due at a tick of simulated time.
+ */
+public final class SimTimer {
+    final ScheduledAction action;
+    final Runnable callback;
+    // moved by the wheel when simulated time jumps, read by snapshots on other threads
+    volatile long dueTick;
+    volatile boolean cancelled;
+    private final SimTimerWheel wheel;
+    // intrusive bucket link, only touched by the wheel's owner
+    SimTimer next;
+
+    SimTimer(SimTimerWheel wheel, long dueTick, ScheduledAction action, Runnable callback) {
+        this.wheel = wheel;
+        this.dueTick = dueTick;
+        this.action = action;
+        this.callback = callback;
+    }
+
+    public long getDueTick() { return dueTick; }
+    public ScheduledAction getAction() { return action; }
+    public boolean isCancelled() { return cancelled; }
+
+    /** Stops the event from firing; harmless if it already fired. */
+    public void cancel() {
+        cancelled = true;
+        wheel.forget(this);
+    }
+}
@@ -0,0 +1,146 @@
+package com.reactor.simulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hashed timer wheel keyed on simulated ticks. Each slot holds the events whose due tick maps to it;
+ * the engine advances the wheel once per tick and only walks that tick's slot, so scheduling,
+ * cancelling and firing are O(1) per event however many are pending, and events fire at the same
+ * simulated time whatever the time scale.
+ * <p>
+ * {@link #schedule} and {@link SimTimer#cancel} may be called from any thread; new events are handed
+ * over through a queue. Everything else runs under the engine's state ownership.
+ */
+public final class SimTimerWheel {
+    private static final int SLOTS = 512;
+    private static final int MASK = SLOTS - 1;
+
+    private final SimTimer[] heads = new SimTimer[SLOTS];
+    private final SimTimer[] tails = new SimTimer[SLOTS];
+    private final ConcurrentLinkedQueue<SimTimer> incoming = new ConcurrentLinkedQueue<>();
+    // scheduled and not yet fired or cancelled; what snapshots see
+    private final Set<SimTimer> live = ConcurrentHashMap.newKeySet();
+    // callbacks of events fired by the last advance, run by the engine once it releases the models
+    private final List<Runnable> fired = new ArrayList<>();
+    private long cursor = -1;
+
+    public SimTimer schedule(long dueTick, ScheduledAction action, Runnable callback) {
+        SimTimer t = new SimTimer(this, dueTick, action, callback);
+        live.add(t);
+        incoming.offer(t);
+        return t;
+    }
+
+    void forget(SimTimer t) { live.remove(t); }
+
+    public int size() { return live.size(); }
+
+    public void cancelAll() {
+        for (SimTimer t : live) t.cancel();
+    }
+
+    /** Pending actuator changes, with due times in simulated seconds. */
+    public List<ScheduledAction> pendingActions(double dt) {
+        List<ScheduledAction> out = new ArrayList<>();
+        for (SimTimer t : live) {
+            if (t.action == null || t.cancelled) continue;
+            out.add(new ScheduledAction(t.action.getTarget(), t.action.getValue(), t.dueTick * dt));
+        }
+        return out;
+    }
+
+    /**
+     * Fires every event due at or before {@code tick}, applying its action to the models, in scheduling
+     * order. If simulated time jumped since the last call (reset, setSimTime) the pending events move
+     * with it and keep their remaining delay.
+     */
+    void advance(long tick, ReactorModel reactor, CoolantModel coolant) {
+        // queued events were scheduled on the timeline before any jump, so they are linked first and
+        // shifted with the rest; an overdue one is due on the tick that would have come next
+        SimTimer t;
+        while ((t = incoming.poll()) != null) {
+            if (t.cancelled) continue;
+            if (t.dueTick <= cursor) t.dueTick = cursor + 1;
+            link(t, t.dueTick);
+        }
+        if (tick != cursor + 1) shift(tick - cursor - 1);
+        cursor = tick;
+
+        int slot = (int) (tick & MASK);
+        SimTimer prev = null;
+        SimTimer cur = heads[slot];
+        while (cur != null) {
+            SimTimer next = cur.next;
+            if (cur.cancelled || cur.dueTick <= tick) {
+                // unlink
+                if (prev == null) heads[slot] = next;
+                else prev.next = next;
+                if (tails[slot] == cur) tails[slot] = prev;
+                cur.next = null;
+                if (!cur.cancelled) {
+                    live.remove(cur);
+                    if (cur.action != null) cur.action.apply(reactor, coolant);
+                    if (cur.callback != null) fired.add(cur.callback);
+                }
+            } else {
+                prev = cur;
+            }
+            cur = next;
+        }
+    }
+
+    /** Drops everything pending and schedules {@code actions} (absolute due times) from {@code tick} on. */
+    void reset(long tick, List<ScheduledAction> actions, double dt) {
+        for (SimTimer t : live) t.cancelled = true;
+        live.clear();
+        incoming.clear();
+        Arrays.fill(heads, null);
+        Arrays.fill(tails, null);
+        cursor = tick - 1;
+        for (ScheduledAction a : actions) {
+            schedule((long) Math.ceil(a.getDueTime() / dt - 1e-9), a, null);
+        }
+    }
+
+    /** Runs and clears the callbacks collected by {@link #advance}; call without holding the models. */
+    void runCallbacks() {
+        if (fired.isEmpty()) return;
+        for (int i = 0; i < fired.size(); i++) {
+            try { fired.get(i).run(); } catch (Exception ignored) {}
+        }
+        fired.clear();
+    }
+
+    // re-hashes every linked event delta ticks later; only happens when simulated time is moved
+    private void shift(long delta) {
+        List<SimTimer> all = new ArrayList<>();
+        for (int i = 0; i < SLOTS; i++) {
+            for (SimTimer t = heads[i]; t != null; ) {
+                SimTimer next = t.next;
+                t.next = null;
+                if (!t.cancelled) all.add(t);
+                t = next;
+            }
+            heads[i] = null;
+            tails[i] = null;
+        }
+        // keep firing order deterministic for events that now share a slot
+        all.sort((a, b) -> Long.compare(a.dueTick, b.dueTick));
+        for (SimTimer t : all) {
+            t.dueTick += delta;
+            link(t, t.dueTick);
+        }
+    }
+
+    private void link(SimTimer t, long tick) {
+        int slot = (int) (tick & MASK);
+        if (tails[slot] == null) heads[slot] = t;
+        else tails[slot].next = t;
+        tails[slot] = t;
+    }
+}
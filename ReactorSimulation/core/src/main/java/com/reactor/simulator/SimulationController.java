@@ -0,0 +1,510 @@
+package com.reactor.simulator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Enhanced SimulationController: event logging, SCRAM, emergency coolant, auto-shutdown.
+ */
+public class SimulationController {
+
+    private final SimulationEngine engine;
+    private final ReactorModel reactor;
+    private final CoolantModel coolant;
+    private final SimulationView view;
+    private final ScenarioManager scenarios;
+    private final EventLog eventLog = new EventLog();
+
+    // every sample, appended on the engine thread; formatted to text only on export
+    private final TelemetryStore telemetry;
+    private StreamingCsvExporter csvStream;
+    private RunRecordingWriter recording;
+    private ReplayEngine replay;
+    private Closeable replayResource;
+    // last status pushed to the view, so the per-tick safety check only posts changes
+    private volatile String lastStatus = null;
+    // set by restore(); the engine thread drops telemetry from this time on before its next append
+    private volatile double truncateTelemetryAt = Double.NaN;
+    // a restore while stopped makes the next start continue from the snapshot instead of t=0
+    private volatile boolean resumeFromRestore = false;
+
+    // safety thresholds (tweakable)
+    private volatile double cautionTemp = 500.0;
+    private volatile double criticalTemp = 700.0;
+    private volatile boolean autoShutdownEnabled = true;
+    // how far back inside a threshold the built-in alarms must go before they clear (K)
+    private static final double THRESHOLD_HYSTERESIS = 2.0;
+    // user alarms evaluated alongside the built-in caution/critical ones
+    private final List<AlarmRule> extraAlarmRules = new CopyOnWriteArrayList<>();
+    // recompiled whenever the rules or thresholds change; swapped in whole for the engine thread
+    private volatile AlarmEngine alarms;
+    // emergency injection parameters
+    private volatile double emergencyInjectionFlow = 1000.0; // kg/s when emergency coolant injected
+    private volatile long emergencyInjectionDurationSec = 10L;
+    // flow an emergency injection hands back when its restore fires; NaN when none is pending
+    private volatile double pendingEmergencyRestoreFlow = Double.NaN;
+
+    public SimulationController(SimulationEngine engine,
+                                ReactorModel reactor,
+                                CoolantModel coolant,
+                                SimulationView view) {
+        this(engine, reactor, coolant, view, new ScenarioManager(engine));
+    }
+
+    public SimulationController(SimulationEngine engine,
+                                ReactorModel reactor,
+                                CoolantModel coolant,
+                                SimulationView view,
+                                ScenarioManager scenarios) {
+        this(engine, reactor, coolant, view, scenarios,
+                new TelemetryStore(Boolean.getBoolean("reactor.telemetry.offHeap")));
+    }
+
+    public SimulationController(SimulationEngine engine,
+                                ReactorModel reactor,
+                                CoolantModel coolant,
+                                SimulationView view,
+                                ScenarioManager scenarios,
+                                TelemetryStore telemetry) {
+        this.engine = engine;
+        this.reactor = reactor;
+        this.coolant = coolant;
+        this.view = view;
+        this.scenarios = scenarios;
+        this.telemetry = telemetry;
+        rebuildAlarms();
+
+        // record each sample and also monitor safety (runs on the engine thread)
+        engine.addListener(new SimulationListener() {
+            @Override
+            public void onUpdate(double coreTemp, double coolantTemp) {
+                onSample(engine.getSimTime(), coreTemp, coolantTemp,
+                        reactor.getControlRodPosition(), coolant.getFlowRate());
+            }
+
+            @Override
+            public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+                double cut = truncateTelemetryAt;
+                if (!Double.isNaN(cut)) {
+                    truncateTelemetryAt = Double.NaN;
+                    telemetry.truncate(telemetry.indexOfTime(cut));
+                }
+                telemetry.append(simTime, coreTemp, coolantTemp, rodPosition, flowRate,
+                        reactor.getNominalPower() * (1.0 - rodPosition));
+                monitorSafety(simTime, coreTemp, coolantTemp, rodPosition, flowRate);
+            }
+        });
+    }
+
+    private void postStatus(String status) {
+        if (view == null || status.equals(lastStatus)) return;
+        lastStatus = status;
+        view.setStatusText(status);
+    }
+
+    public TelemetryStore getTelemetry() {
+        return telemetry;
+    }
+
+    // Expose event log to UI
+    public EventLog getEventLog() {
+        return eventLog;
+    }
+
+    // runs on the engine thread every tick; only raises and clears are logged or acted on
+    private void monitorSafety(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+        AlarmEngine a = alarms;
+        int n = a.evaluate(simTime, coreTemp, coolantTemp, rodPosition, flowRate);
+        boolean trip = false;
+        for (int i = 0; i < n; i++) {
+            AlarmRule rule = a.getTransitionRule(i);
+            if (a.isTransitionRaise(i)) {
+                // formatted only if the event log keeps it, not for raises it rate limits
+                eventLog.append(rule.getName(), () -> String.format("%s: %s (core %.2f, coolant %.2f, flow %.1f)",
+                        rule.getSeverity(), rule.getName(), coreTemp, coolantTemp, flowRate));
+                trip |= rule.isTrip();
+            } else {
+                eventLog.append(rule.getName(), "Cleared: " + rule.getName());
+            }
+        }
+
+        if (trip && autoShutdownEnabled) {
+            eventLog.append(String.format("CRITICAL: core temp %.2f — initiating SCRAM & emergency actions", coreTemp));
+            // a pending scenario restore (e.g. rods back out after a spike) must not undo the SCRAM
+            scenarios.cancelAll();
+            scram();
+            emergencyInject(emergencyInjectionDurationSec, emergencyInjectionFlow);
+            engine.stop();
+            postStatus("CRITICAL - SCRAMED");
+            return;
+        }
+        AlarmRule.Severity level = a.getHighestActiveSeverity();
+        if (level == AlarmRule.Severity.CRITICAL) postStatus("CRITICAL");
+        else if (level == AlarmRule.Severity.CAUTION) postStatus("WARNING");
+        else postStatus(engine.isRunning() ? "Running" : "Stopped");
+    }
+
+    private void rebuildAlarms() {
+        List<AlarmRule> rules = new ArrayList<>();
+        rules.add(new AlarmRule("Core temperature high")
+                .above(AlarmSignal.CORE_TEMP, cautionTemp, THRESHOLD_HYSTERESIS));
+        rules.add(new AlarmRule("Core temperature critical")
+                .above(AlarmSignal.CORE_TEMP, criticalTemp, THRESHOLD_HYSTERESIS)
+                .setSeverity(AlarmRule.Severity.CRITICAL)
+                .setTrip(true));
+        rules.addAll(extraAlarmRules);
+        alarms = new AlarmEngine(rules, engine.getDt());
+    }
+
+    /** Adds an alarm evaluated every tick; alarm state restarts from clear. */
+    public void addAlarmRule(AlarmRule rule) {
+        extraAlarmRules.add(rule);
+        rebuildAlarms();
+        eventLog.append("Alarm rule added: " + rule.getName());
+    }
+
+    public void clearAlarmRules() {
+        extraAlarmRules.clear();
+        rebuildAlarms();
+    }
+
+    public List<AlarmRule> getAlarmRules() { return List.copyOf(extraAlarmRules); }
+
+    /** Releases latched alarms whose conditions have cleared. */
+    public void acknowledgeAlarms() {
+        alarms.acknowledgeAll();
+        eventLog.append("Alarms acknowledged");
+    }
+
+    // Start/stop/reset
+    public void startSimulation() {
+        if (!engine.isRunning()) {
+            if (!resumeFromRestore) {
+                // a fresh run; events left over from the last one do not belong to it. A restored
+                // snapshot keeps its own.
+                cancelScenarioEvents();
+                // a recording covers one run: its time index cannot go back to 0
+                stopRecording();
+                engine.resetSimTime();
+                telemetry.clear();
+            }
+            // a fresh alarm state, so a core still above the trip limit trips again
+            rebuildAlarms();
+            resumeFromRestore = false;
+            lastStatus = null;
+            eventLog.append("Simulation started");
+        }
+        engine.start();
+    }
+
+    // drops pending scenario events, except that an emergency injection gets its previous flow back
+    // now: after a trip the engine is stopped and would never reach the restore time
+    private void cancelScenarioEvents() {
+        scenarios.cancelAll();
+        double flow = pendingEmergencyRestoreFlow;
+        pendingEmergencyRestoreFlow = Double.NaN;
+        if (Double.isNaN(flow)) return;
+        engine.setFlowRate(flow);
+        eventLog.append(String.format("Emergency coolant restored to %.1f kg/s", flow));
+        if (view != null) view.setFlowSliderValue(flow);
+    }
+
+    public void stopSimulation() {
+        engine.stop();
+        eventLog.append("Simulation stopped");
+    }
+
+    public boolean isRunning() { return engine.isRunning(); }
+
+    public void setTimeScale(double scale) {
+        engine.setTimeScale(scale);
+        eventLog.append("Time scale set to " + scale + "x");
+    }
+
+    public void setOverrunPolicy(OverrunPolicy policy) {
+        engine.setOverrunPolicy(policy);
+        eventLog.append("Overrun policy set to " + policy);
+    }
+
+    public void resetSimulation() {
+        stopSimulation();
+        cancelScenarioEvents();
+        stopRecording();
+        engine.resetSimTime();
+        telemetry.clear();
+        resumeFromRestore = false;
+        lastStatus = null;
+        if (view != null) view.onSimulationReset();
+        engine.setControlRodPosition(1.0);
+        engine.setFlowRate(200.0);
+        eventLog.append("Simulation reset");
+    }
+
+    // EXPORT
+    public void exportCsvTo(File file) throws IOException {
+        if (file == null) return;
+        try (BufferedWriter out = new BufferedWriter(new FileWriter(file), 1 << 16)) {
+            out.write("# Reactor simulation export\n");
+            out.write("# Generated: " + DateTimeFormatter.ISO_INSTANT.format(Instant.now().atZone(ZoneOffset.UTC)) + " UTC\n");
+            out.write("time_s,core_temp_c,coolant_temp_c\n");
+            StringBuilder sb = new StringBuilder(1 << 16);
+            String newline = System.lineSeparator();
+            long size = telemetry.size();
+            for (long row = 0; row < size; row++) {
+                DoubleFormat.append(sb, telemetry.get(TelemetryStore.TIME, row), 3).append(',');
+                DoubleFormat.append(sb, telemetry.get(TelemetryStore.CORE, row), 6).append(',');
+                DoubleFormat.append(sb, telemetry.get(TelemetryStore.COOLANT, row), 6).append(newline);
+                if (sb.length() > 60_000) {
+                    out.append(sb);
+                    sb.setLength(0);
+                }
+            }
+            out.append(sb);
+        }
+        eventLog.append("CSV exported to " + (file != null ? file.getAbsolutePath() : "null"));
+    }
+
+    /**
+     * Streams every sample to {@code file} from a background writer until {@link #stopCsvStream()}.
+     * A {@code .gz} file name enables compression; rotation limits of 0 disable rotation.
+     */
+    public synchronized void startCsvStream(File file, long rotateBytes, double rotateSeconds) {
+        stopCsvStream();
+        csvStream = new StreamingCsvExporter(file, file.getName().endsWith(".gz"), rotateBytes, rotateSeconds);
+        engine.addListener(csvStream);
+        eventLog.append("CSV streaming to " + file.getAbsolutePath());
+    }
+
+    public synchronized void stopCsvStream() {
+        if (csvStream == null) return;
+        engine.removeListener(csvStream);
+        try {
+            csvStream.close();
+            eventLog.append(String.format("CSV stream closed: %d rows in %d file(s), %d dropped",
+                    csvStream.getRowsWritten(), csvStream.getFilesWritten(), csvStream.getRowsDropped()));
+        } catch (IOException e) {
+            eventLog.append("CSV stream failed: " + e.getMessage());
+        }
+        csvStream = null;
+    }
+
+    public synchronized boolean isCsvStreaming() { return csvStream != null; }
+
+    /** Records every sample to a binary {@link RunRecording} file until {@link #stopRecording()}. */
+    public synchronized void startRecording(File file) throws IOException {
+        stopRecording();
+        recording = new RunRecordingWriter(file, engine.getDt(), reactor, coolant);
+        engine.addListener(recording);
+        eventLog.append("Recording to " + file.getAbsolutePath());
+    }
+
+    public synchronized void stopRecording() {
+        if (recording == null) return;
+        engine.removeListener(recording);
+        try {
+            recording.close();
+            eventLog.append(String.format("Recording closed: %d rows", recording.getRows()));
+        } catch (IOException e) {
+            eventLog.append("Recording failed: " + e.getMessage());
+        }
+        recording = null;
+    }
+
+    public synchronized boolean isRecording() { return recording != null; }
+
+    /**
+     * Stops the live simulation and prepares a replay of {@code file}, either a binary run recording
+     * or an exported CSV ({@code .csv} / {@code .csv.gz}). The caller attaches its feed and starts it.
+     */
+    public synchronized ReplayEngine openReplay(File file) throws IOException {
+        closeReplay();
+        if (engine.isRunning()) stopSimulation();
+        String name = file.getName();
+        if (name.endsWith(".csv") || name.endsWith(".csv.gz")) {
+            replay = new ReplayEngine(CsvRunLoader.load(file));
+        } else {
+            RunRecording rec = RunRecording.open(file);
+            replayResource = rec;
+            replay = new ReplayEngine(rec);
+        }
+        eventLog.append(String.format("Replay opened: %s (%d rows)", file.getAbsolutePath(), replay.getRun().size()));
+        return replay;
+    }
+
+    public synchronized void closeReplay() {
+        if (replay == null) return;
+        replay.stop();
+        replay = null;
+        if (replayResource != null) {
+            // the playback thread may still be mid-frame; the mapping stays valid until it is collected
+            try { replayResource.close(); } catch (IOException ignored) {}
+            replayResource = null;
+        }
+        eventLog.append("Replay closed");
+    }
+
+    public synchronized ReplayEngine getReplay() { return replay; }
+
+    // Checkpoints and what-if branches
+    public SimulationSnapshot snapshot() {
+        return engine.snapshot();
+    }
+
+    /** Returns the live session to {@code snapshot}, including its pending scenario restores. */
+    public void restore(SimulationSnapshot snapshot) {
+        // a recording's rows must stay in time order
+        if (isRecording() && snapshot.getSimTime() < engine.getSimTime()) stopRecording();
+        engine.restore(snapshot);
+        // telemetry after the snapshot time belongs to the abandoned timeline
+        double cut = snapshot.getSimTime() + 1e-9;
+        if (engine.isRunning()) {
+            truncateTelemetryAt = cut;
+        } else {
+            telemetry.truncate(telemetry.indexOfTime(cut));
+            resumeFromRestore = true;
+        }
+        lastStatus = null;
+        if (view != null) {
+            view.setRodSliderValue(snapshot.getControlRodPosition());
+            view.setFlowSliderValue(snapshot.getFlowRate());
+        }
+        eventLog.append(String.format("Restored snapshot at t=%.1fs", snapshot.getSimTime()));
+    }
+
+    /**
+     * Runs a copy of the current state {@code horizonSeconds} ahead in the background with
+     * {@code interventions} (due times in simulated seconds) added; the live session is not affected.
+     */
+    public CompletableFuture<SimulationTrace> whatIf(double horizonSeconds, List<ScheduledAction> interventions) {
+        SimulationSnapshot fork = snapshot().withActions(interventions);
+        return fork.runAheadAsync(horizonSeconds, null, 1, ForkJoinPool.commonPool());
+    }
+
+    /** Peak core temperature over {@code horizonSeconds} for a SCRAM now and one {@code delaySeconds} from now. */
+    public CompletableFuture<double[]> compareScramTiming(double delaySeconds, double horizonSeconds) {
+        SimulationSnapshot now = snapshot();
+        double t = now.getSimTime();
+        CompletableFuture<SimulationTrace> immediate = now.withActions(List.of(ScheduledAction.rodPosition(1.0, t)))
+                .runAheadAsync(horizonSeconds, null, 1, ForkJoinPool.commonPool());
+        CompletableFuture<SimulationTrace> delayed = now.withActions(List.of(ScheduledAction.rodPosition(1.0, t + delaySeconds)))
+                .runAheadAsync(horizonSeconds, null, 1, ForkJoinPool.commonPool());
+        return immediate.thenCombine(delayed, (a, b) -> new double[]{a.getPeakCoreTemp(), b.getPeakCoreTemp()});
+    }
+
+    /** Runs every scenario script in {@code dir} headless in the background; the live session is not affected. */
+    public CompletableFuture<ScenarioReport> runScenarioSuite(File dir) {
+        eventLog.append("Scenario suite started: " + dir);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return new ScenarioSuite().run(dir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ForkJoinPool.commonPool()).whenComplete((report, ex) -> eventLog.append(ex == null
+                ? "Scenario suite: " + report.getSummary()
+                : "Scenario suite failed: " + ex.getCause().getMessage()));
+    }
+
+    // Safety actions
+    public void scram() {
+        if (reactor != null) {
+            engine.setControlRodPosition(1.0); // insert rods at the next tick
+            eventLog.append("SCRAM executed: rods inserted (pos=1.0)");
+            // update UI immediately — avoid waiting for next engine tick
+            if (view != null) {
+                view.setRodSliderValue(1.0);
+                view.setStatusText("SCRAMMED");
+            }
+        }
+    }
+
+    public void emergencyInject(long durationSeconds, double boostFlowKgPerS) {
+        if (coolant == null) return;
+        double prevFlow = engine.getState().getFlowRate();
+        pendingEmergencyRestoreFlow = prevFlow;
+        engine.setFlowRate(boostFlowKgPerS);
+        eventLog.append(String.format("Emergency coolant injected: flow set to %.1f kg/s for %ds", boostFlowKgPerS, durationSeconds));
+
+        // update UI immediately
+        if (view != null) {
+            view.setFlowSliderValue(boostFlowKgPerS);
+            view.setStatusText("EMERGENCY COOLANT");
+        }
+
+        // restore previous flow after duration (simulated seconds) and update UI then; scheduled on
+        // the engine's timer wheel so the pending restore is captured by snapshots
+        scenarios.schedule(ScheduledAction.Target.FLOW_RATE, prevFlow, durationSeconds, () -> {
+            pendingEmergencyRestoreFlow = Double.NaN;
+            eventLog.append(String.format("Emergency coolant restored to %.1f kg/s", prevFlow));
+            if (view != null) {
+                view.setFlowSliderValue(prevFlow);
+                view.setStatusText(engine.isRunning() ? "Running" : "Stopped");
+            }
+        });
+    }
+
+    // Scenario wrappers (log & forward)
+    public void triggerReactivitySpike(double durationSeconds, double newRodPosition) {
+        eventLog.append(String.format("Scenario: Reactivity spike for %.1fs to rod=%.2f", durationSeconds, newRodPosition));
+        scenarios.reactivitySpike(durationSeconds, newRodPosition);
+    }
+
+    public void triggerCoolantFailure(double durationSeconds) {
+        eventLog.append(String.format("Scenario: Coolant failure for %.1fs", durationSeconds));
+        scenarios.coolantFailure(durationSeconds);
+    }
+
+    // Direct actuator inputs for remote clients; the dashboard sliders drive the engine themselves
+    public void setControlRodPosition(double position) {
+        if (!(position >= 0.0 && position <= 1.0)) throw new IllegalArgumentException("rod position must be in [0, 1]");
+        engine.setControlRodPosition(position);
+        eventLog.append("remote.rod", () -> String.format("Rod position set to %.3f", position));
+        if (view != null) view.setRodSliderValue(position);
+    }
+
+    public void setFlowRate(double flow) {
+        if (!(flow >= 0.0)) throw new IllegalArgumentException("flow must be >= 0");
+        engine.setFlowRate(flow);
+        eventLog.append("remote.flow", () -> String.format("Flow set to %.1f kg/s", flow));
+        if (view != null) view.setFlowSliderValue(flow);
+    }
+
+    /** The most severe raised alarm level, or null when nothing is raised. */
+    public AlarmRule.Severity getAlarmLevel() { return alarms.getHighestActiveSeverity(); }
+
+    // Control safety parameters at runtime
+    public void setCautionTemp(double t) { this.cautionTemp = t; rebuildAlarms(); eventLog.append("Caution temp set to " + t); }
+    public void setCriticalTemp(double t) { this.criticalTemp = t; rebuildAlarms(); eventLog.append("Critical temp set to " + t); }
+    public void setAutoShutdownEnabled(boolean v) { this.autoShutdownEnabled = v; eventLog.append("Auto-shutdown set to " + v); }
+
+    // Public getters for dashboard / UI
+    public double getCautionTemp() { return cautionTemp; }
+    public double getCriticalTemp() { return criticalTemp; }
+    public double getEmergencyInjectionFlow() { return emergencyInjectionFlow; }
+    public long getEmergencyInjectionDurationSec() { return emergencyInjectionDurationSec; }
+    public boolean isAutoShutdownEnabled() { return autoShutdownEnabled; }
+
+    // allow changing emergency injection params
+    public void setEmergencyInjectionFlow(double flow) { this.emergencyInjectionFlow = flow; eventLog.append("Emergency injection flow set to " + flow); }
+    public void setEmergencyInjectionDurationSec(long secs) { this.emergencyInjectionDurationSec = secs; eventLog.append("Emergency injection duration set to " + secs); }
+
+    public void shutdown() {
+        stopCsvStream();
+        stopRecording();
+        closeReplay();
+        eventLog.append("Controller shutdown");
+        eventLog.close();
+    }
+}
@@ -0,0 +1,514 @@
+package com.reactor.simulator;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+public class SimulationEngine implements SampleSource, Runnable {
+    private static final int FEED_CAPACITY = 1 << 14;
+    // the last stretch before a deadline is spun rather than parked, since a park can oversleep
+    private static final long SPIN_NANOS = 50_000L;
+    // CATCH_UP restarts the schedule instead of replaying more than this much missed wall time
+    private static final long MAX_CATCH_UP_NANOS = 10_000_000_000L;
+    // rolling statistics window and the span the rate of change is taken over (simulated seconds)
+    private static final double STATS_WINDOW_SECONDS = 60.0;
+    private static final double STATS_RATE_SECONDS = 5.0;
+
+    private final ReactorModel reactor;
+    private final CoolantModel coolant;
+    private final double dt;
+    private volatile boolean running = false;
+    // the thread currently running the loop; an older loop that has not yet woken up exits on its own
+    private volatile Thread runner;
+    private volatile double timeScale = 1.0;
+    private volatile double maxTimeScale = Double.MAX_VALUE;
+    // platform daemon threads unless a host (e.g. SessionManager) supplies its own
+    private volatile ThreadFactory threadFactory = r -> {
+        Thread t = new Thread(r, "SimulationEngine");
+        t.setDaemon(true);
+        return t;
+    };
+    private volatile OverrunPolicy overrunPolicy = OverrunPolicy.CATCH_UP;
+    private volatile long skippedTicks = 0;
+    // simulated time is derived from the tick count so it does not accumulate rounding error
+    private volatile long tick = 0;
+    // bumped before every jump of the tick count (reset, setSimTime, restore), see SimulationSnapshot.getEpoch
+    private final AtomicLong epoch = new AtomicLong();
+    private volatile Integrator integrator = new EulerIntegrator();
+    // copy-on-write array so the tick loop iterates without allocating
+    private volatile SimulationListener[] listeners = new SimulationListener[0];
+    // feed, metrics and statistics of real-time ticks, created on first use so that engines that
+    // only run headless (ensemble runs, scenarios, forks) never allocate them
+    private final int feedCapacity;
+    private final Object instrumentsLock = new Object();
+    private volatile Instruments instruments;
+
+    // actuator inputs from any thread, applied in arrival order at the start of the next tick
+    private final ConcurrentLinkedQueue<ScheduledAction> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<SimulationSnapshot> pendingRestore = new AtomicReference<>();
+    // taken by CAS (never blocking) by whoever mutates the models: the ticking thread, or a caller
+    // applying commands while the engine is stopped
+    private final AtomicBoolean stateOwner = new AtomicBoolean();
+    // scenario events due at simulated times, fired at the start of the tick they fall due
+    private final SimTimerWheel timers = new SimTimerWheel();
+
+    // model state as of the last tick boundary, published under a sequence counter (odd = writing)
+    private volatile long stateSeq = 0;
+    private long stateTick;
+    private long stateEpoch;
+    private double stateCore;
+    private double stateCoolant;
+    private double stateRod;
+    private double stateFlow;
+
+    public SimulationEngine(ReactorModel reactor, CoolantModel coolant, double dt) {
+        this(reactor, coolant, dt, FEED_CAPACITY);
+    }
+
+    /** {@code feedCapacity} samples are kept for a consumer of {@link #getFeed()}; headless hosts need few. */
+    public SimulationEngine(ReactorModel reactor, CoolantModel coolant, double dt, int feedCapacity) {
+        this.reactor = reactor;
+        this.coolant = coolant;
+        this.dt = dt;
+        if (feedCapacity < 2) throw new IllegalArgumentException("feedCapacity < 2");
+        this.feedCapacity = feedCapacity;
+        publishState();
+    }
+
+    /**
+     * Registers a listener called synchronously on the engine thread after every tick. Listeners
+     * that touch JavaFX must not be registered here; the UI reads {@link #getFeed()} instead.
+     */
+    public synchronized void addListener(SimulationListener listener) {
+        if (listener == null) return;
+        SimulationListener[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[listeners.length] = listener;
+        listeners = next;
+    }
+
+    public synchronized void removeListener(SimulationListener listener) {
+        SimulationListener[] cur = listeners;
+        for (int i = 0; i < cur.length; i++) {
+            if (cur[i] == listener) {
+                SimulationListener[] next = new SimulationListener[cur.length - 1];
+                System.arraycopy(cur, 0, next, 0, i);
+                System.arraycopy(cur, i + 1, next, i, cur.length - i - 1);
+                listeners = next;
+                return;
+            }
+        }
+    }
+
+    private static final class Instruments {
+        // latest samples for the UI, drained once per frame instead of a Platform.runLater per tick
+        final SampleRingBuffer feed;
+        final EngineMetrics metrics;
+        // updated on the ticking thread after each real-time tick
+        final RollingStats coreStats;
+        final RollingStats coolantStats;
+
+        Instruments(int feedCapacity, double dt) {
+            feed = new SampleRingBuffer(feedCapacity);
+            metrics = new EngineMetrics(feed);
+            coreStats = new RollingStats(Math.max(STATS_WINDOW_SECONDS, dt), STATS_RATE_SECONDS, dt);
+            coolantStats = new RollingStats(Math.max(STATS_WINDOW_SECONDS, dt), STATS_RATE_SECONDS, dt);
+        }
+    }
+
+    // not under the engine's monitor: start() holds that while it waits for the old loop
+    private Instruments instruments() {
+        Instruments i = instruments;
+        if (i != null) return i;
+        synchronized (instrumentsLock) {
+            if (instruments == null) instruments = new Instruments(feedCapacity, dt);
+            return instruments;
+        }
+    }
+
+    public SampleRingBuffer getFeed() { return instruments().feed; }
+    public EngineMetrics getMetrics() { return instruments().metrics; }
+    public SimTimerWheel getTimers() { return timers; }
+    /** Rolling core temperature statistics over the last minute of real-time ticks. */
+    public RollingStats getCoreStats() { return instruments().coreStats; }
+    public RollingStats getCoolantStats() { return instruments().coolantStats; }
+
+    /**
+     * Starts the real-time loop. A loop stopped just before is waited for first, so the two never
+     * overlap; when called from the loop's own thread (a listener or timer callback) the old loop
+     * simply exits after its current tick.
+     */
+    public synchronized void start() {
+        if (running) return;
+        Thread previous = runner;
+        if (previous != null && previous != Thread.currentThread()) {
+            LockSupport.unpark(previous);
+            try {
+                previous.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        running = true;
+        Thread t = threadFactory.newThread(this);
+        runner = t;
+        t.start();
+    }
+
+    public void stop() {
+        running = false;
+        Thread t = runner;
+        if (t != null) LockSupport.unpark(t);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Where {@link #start()} gets its loop thread from; takes effect on the next start. */
+    public void setThreadFactory(ThreadFactory factory) {
+        if (factory == null) throw new IllegalArgumentException("factory");
+        this.threadFactory = factory;
+    }
+
+    public double getDt() { return dt; }
+    public long getTick() { return tick; }
+    public double getSimTime() { return tick * dt; }
+    public void resetSimTime() {
+        epoch.incrementAndGet();
+        tick = 0;
+    }
+
+    public void setSimTime(double simTime) {
+        epoch.incrementAndGet();
+        tick = Math.round(simTime / dt);
+    }
+
+    /** Simulated seconds per wall-clock second in real-time mode (e.g. 0.5, 2, 10); takes effect on the next tick. */
+    public double getTimeScale() { return timeScale; }
+    public void setTimeScale(double timeScale) {
+        if (!(timeScale > 0) || Double.isInfinite(timeScale)) throw new IllegalArgumentException("timeScale " + timeScale);
+        if (timeScale > maxTimeScale) throw new IllegalArgumentException("timeScale " + timeScale + " exceeds the limit of " + maxTimeScale);
+        this.timeScale = timeScale;
+    }
+
+    /** Upper bound for {@link #setTimeScale}; lowering it below the current scale slows the engine down to it. */
+    public double getMaxTimeScale() { return maxTimeScale; }
+    public void setMaxTimeScale(double max) {
+        if (!(max > 0)) throw new IllegalArgumentException("maxTimeScale " + max);
+        this.maxTimeScale = max;
+        if (timeScale > max) timeScale = max;
+    }
+
+    public OverrunPolicy getOverrunPolicy() { return overrunPolicy; }
+    public void setOverrunPolicy(OverrunPolicy policy) {
+        if (policy == null) throw new IllegalArgumentException("policy");
+        this.overrunPolicy = policy;
+    }
+
+    /** Ticks dropped by {@link OverrunPolicy#SKIP} since the engine was created. */
+    public long getSkippedTicks() { return skippedTicks; }
+
+    public Integrator getIntegrator() { return integrator; }
+    public void setIntegrator(Integrator integrator) {
+        if (integrator == null) throw new IllegalArgumentException("integrator");
+        this.integrator = integrator;
+    }
+
+    /**
+     * Queues an actuator change from any thread. It is applied at the start of the next tick (its
+     * due time is ignored), or straight away on the calling thread if the engine is stopped.
+     */
+    public void submit(ScheduledAction command) {
+        commands.offer(command);
+        if (!running) applyPendingWhileStopped();
+    }
+
+    public void setControlRodPosition(double position) {
+        submit(ScheduledAction.rodPosition(position, getSimTime()));
+    }
+
+    public void setFlowRate(double flow) {
+        submit(ScheduledAction.flowRate(flow, getSimTime()));
+    }
+
+    /**
+     * Applies {@code action} at the start of the tick its due time falls in and then runs
+     * {@code afterFire} (if given) on the ticking thread; the action is carried by snapshots until then.
+     */
+    public SimTimer schedule(ScheduledAction action, Runnable afterFire) {
+        return timers.schedule(dueTick(action.getDueTime()), action, afterFire);
+    }
+
+    /** Runs {@code callback} on the ticking thread once simulated time reaches {@code dueTime}. */
+    public SimTimer schedule(double dueTime, Runnable callback) {
+        return timers.schedule(dueTick(dueTime), null, callback);
+    }
+
+    private long dueTick(double dueTime) {
+        return (long) Math.ceil(dueTime / dt - 1e-9);
+    }
+
+    /**
+     * Advances the coupled core/coolant models by one timestep without pacing or listener dispatch,
+     * after applying any queued commands and the timer events due at this tick.
+     */
+    public void step() {
+        acquireState();
+        try {
+            stepOwned();
+        } finally {
+            stateOwner.set(false);
+        }
+        timers.runCallbacks();
+    }
+
+    // only contended while a stopped-engine caller finishes applying its commands, or another
+    // caller is inside step()/advance()
+    private void acquireState() {
+        while (!stateOwner.compareAndSet(false, true)) Thread.onSpinWait();
+    }
+
+    // caller holds stateOwner
+    private void stepOwned() {
+        applyPending();
+        timers.advance(tick, reactor, coolant);
+        integrator.step(reactor, coolant, dt);
+        tick++;
+        publishState();
+    }
+
+    /**
+     * The model state at the last tick boundary, readable from any thread without locking. Model
+     * parameters are final and read directly; there are no pending actions.
+     */
+    public SimulationSnapshot getState() {
+        return readState(false);
+    }
+
+    /** Captures the state at the last tick boundary together with the actions pending on the timer wheel. */
+    public SimulationSnapshot snapshot() {
+        return readState(true);
+    }
+
+    private SimulationSnapshot readState(boolean withTimers) {
+        while (true) {
+            // taken before the state: an event that fires in between is then still in the list, and
+            // dropped below because its due tick is behind the state read
+            List<ScheduledAction> pending = withTimers ? timers.pendingActions(dt) : null;
+            long seq = stateSeq;
+            if ((seq & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long t = stateTick, e = stateEpoch;
+            double core = stateCore, cool = stateCoolant, rod = stateRod, flow = stateFlow;
+            VarHandle.loadLoadFence();
+            if (stateSeq != seq) continue;
+            // an event due at tick t fires at the start of the step from t, so it is still pending here
+            if (pending != null) pending.removeIf(a -> a.getDueTime() < t * dt - 1e-9);
+            return new SimulationSnapshot(t, e, dt, IntegratorType.of(integrator), core, rod, cool, flow,
+                    reactor, coolant, pending);
+        }
+    }
+
+    /**
+     * Puts the models, sim time and timer wheel back to {@code snapshot} at the next tick boundary
+     * (immediately if stopped). Events pending now are dropped; the snapshot's actions replace them.
+     */
+    public void restore(SimulationSnapshot snapshot) {
+        if (Math.abs(snapshot.getDt() - dt) > 1e-12) {
+            throw new IllegalArgumentException("Snapshot dt " + snapshot.getDt() + " does not match engine dt " + dt);
+        }
+        pendingRestore.set(snapshot);
+        if (!running) applyPendingWhileStopped();
+    }
+
+    // caller holds stateOwner
+    private void applyPending() {
+        SimulationSnapshot restore = pendingRestore.getAndSet(null);
+        if (restore != null) {
+            restore.applyTo(reactor, coolant);
+            epoch.incrementAndGet();
+            tick = restore.getTick();
+            timers.reset(tick, restore.getPendingActions(), dt);
+        }
+        ScheduledAction command;
+        while ((command = commands.poll()) != null) command.apply(reactor, coolant);
+    }
+
+    private void applyPendingWhileStopped() {
+        do {
+            // if someone else holds the state they apply the queue themselves
+            if (!stateOwner.compareAndSet(false, true)) return;
+            try {
+                applyPending();
+                publishState();
+            } finally {
+                stateOwner.set(false);
+            }
+            // a command offered between the drain and the release would otherwise wait for the next start
+        } while (!running && (!commands.isEmpty() || pendingRestore.get() != null));
+    }
+
+    // caller holds stateOwner; the seqlock lets readers take a consistent copy without a lock
+    private void publishState() {
+        long seq = stateSeq;
+        stateSeq = seq + 1;
+        VarHandle.storeStoreFence();
+        stateTick = tick;
+        // after the tick: a jumped tick is never published with the epoch from before the jump
+        stateEpoch = epoch.get();
+        stateCore = reactor.getCoreTemp();
+        stateCoolant = coolant.getCoolantTemp();
+        stateRod = reactor.getControlRodPosition();
+        stateFlow = coolant.getFlowRate();
+        stateSeq = seq + 2;
+    }
+
+    /**
+     * Runs the models as fast as the CPU allows on the calling thread until simulated time reaches
+     * {@code endTimeSeconds} or {@code stopCondition} asks to stop. Registered listeners are
+     * not notified (they expect the FX thread); the returned trace holds every
+     * {@code recordEvery}-th sample plus the final one ({@code recordEvery <= 0} keeps only the final sample)
+     * and the peak core temperature over every step.
+     */
+    public SimulationTrace runHeadless(double endTimeSeconds, StopCondition stopCondition, int recordEvery) {
+        if (running) throw new IllegalStateException("Engine is running in real-time mode");
+        SimulationTrace trace = new SimulationTrace();
+        trace.observe(reactor.getCoreTemp());
+        long ticks = 0;
+        boolean stoppedByCondition = false;
+        long endTick = (long) Math.ceil(endTimeSeconds / dt - 1e-9);
+        while (tick < endTick) {
+            step();
+            ticks++;
+            double simTime = getSimTime();
+            double core = reactor.getCoreTemp();
+            double cool = coolant.getCoolantTemp();
+            trace.observe(core);
+            boolean stop = stopCondition != null && stopCondition.shouldStop(simTime, core, cool);
+            boolean last = stop || tick >= endTick;
+            if (last || (recordEvery > 0 && ticks % recordEvery == 0)) {
+                trace.add(simTime, core, cool);
+            }
+            if (stop) {
+                stoppedByCondition = true;
+                break;
+            }
+        }
+        trace.finish(ticks, stoppedByCondition);
+        return trace;
+    }
+
+    /**
+     * One real-time tick without the pacing sleep: steps the models, publishes the sample to the
+     * feed and notifies listeners on the calling thread. The state stays owned through the dispatch,
+     * so the single-writer structures fed here (feed, statistics, metrics, listeners' stores) never
+     * see two ticking threads at once. Actuator changes made by listeners land on the next tick.
+     */
+    public void advance() {
+        long start = System.nanoTime();
+        acquireState();
+        try {
+            stepOwned();
+            long stepped = System.nanoTime();
+
+            double t = getSimTime();
+            double core = reactor.getCoreTemp();
+            double cool = coolant.getCoolantTemp();
+            double rod = reactor.getControlRodPosition();
+            double flow = coolant.getFlowRate();
+
+            Instruments in = instruments();
+            in.feed.publish(t, core, cool, rod, flow);
+            in.coreStats.add(t, core);
+            in.coolantStats.add(t, cool);
+            SimulationListener[] ls = listeners;
+            for (int i = 0; i < ls.length; i++) {
+                try { ls[i].onSample(t, core, cool, rod, flow); } catch (Exception ignored) {}
+            }
+            in.metrics.recordTick(stepped - start, System.nanoTime() - stepped);
+        } finally {
+            stateOwner.set(false);
+        }
+        timers.runCallbacks();
+        // commands a listener gave a stopped engine were queued while the state was held
+        if (!running) applyPendingWhileStopped();
+    }
+
+    /**
+     * Real-time loop. Tick n is due at {@code origin + n * dt / timeScale} on the nanoTime clock, so
+     * the time spent computing and dispatching does not accumulate as drift and sub-millisecond dt
+     * works. The schedule is rebased when the time scale changes or the overrun policy restarts it.
+     */
+    @Override
+    public void run() {
+        Thread self = Thread.currentThread();
+        double scale = timeScale;
+        double periodNanos = dt * 1e9 / scale;
+        long origin = System.nanoTime();
+        long n = 0;
+        while (running && runner == self) {
+            double s = timeScale;
+            if (s != scale) {
+                origin += (long) (n * periodNanos);
+                n = 0;
+                scale = s;
+                periodNanos = dt * 1e9 / s;
+            }
+
+            long deadline = origin + (long) (n * periodNanos);
+            long now = System.nanoTime();
+            if (now < deadline) {
+                now = waitUntil(deadline);
+                if (!running || runner != self) break;
+                instruments().metrics.recordSleep(now - deadline, now - deadline);
+            } else {
+                long late = now - deadline;
+                instruments().metrics.recordSleep(0, late);
+                if (late >= periodNanos) {
+                    OverrunPolicy policy = overrunPolicy;
+                    if (policy == OverrunPolicy.SKIP) {
+                        long missed = (long) (late / periodNanos);
+                        n += missed;
+                        skippedTicks += missed;
+                    } else if (policy == OverrunPolicy.SLOW_DOWN
+                            || (policy == OverrunPolicy.CATCH_UP && late > MAX_CATCH_UP_NANOS)) {
+                        origin = now;
+                        n = 0;
+                    }
+                    // CATCH_UP otherwise: deadlines already passed, so the next ticks run back to back
+                }
+            }
+
+            advance();
+            n++;
+        }
+        // commands submitted while this loop was stopping saw running == true and were left queued
+        if (!running) applyPendingWhileStopped();
+    }
+
+    // parks until the deadline (or stop()); returns the nanoTime at wake-up
+    private long waitUntil(long deadline) {
+        // virtual threads share carriers, so they park all the way rather than spin
+        long spin = Thread.currentThread().isVirtual() ? 0L : SPIN_NANOS;
+        long now;
+        while ((now = System.nanoTime()) < deadline && running) {
+            if (Thread.currentThread().isInterrupted()) {
+                running = false;
+                break;
+            }
+            long remaining = deadline - now;
+            if (remaining > spin) LockSupport.parkNanos(this, remaining - spin);
+            else Thread.onSpinWait();
+        }
+        return now;
+    }
+}
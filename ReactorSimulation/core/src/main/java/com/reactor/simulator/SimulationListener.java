@@ -0,0 +1,10 @@
+package com.reactor.simulator;
+
+public interface SimulationListener {
+    void onUpdate(double coreTemp, double coolantTemp);
+
+    // full sample as published by the engine; override when the time or actuator state is needed
+    default void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+        onUpdate(coreTemp, coolantTemp);
+    }
+}
@@ -0,0 +1,44 @@
+package com.reactor.simulator;
+
+/**
+ * One independent simulation hosted by a {@link SessionManager}: its own plant models, engine,
+ * scenarios and controller (without a dashboard). Sessions share nothing but the manager's thread
+ * factory, so one trainee's SCRAM or stalled listener does not affect another's.
+ */
+public final class SimulationSession {
+    private final String id;
+    private final ReactorModel reactor;
+    private final CoolantModel coolant;
+    private final SimulationEngine engine;
+    private final ScenarioManager scenarios;
+    private final SimulationController controller;
+    private final long createdMillis = System.currentTimeMillis();
+
+    SimulationSession(String id, ReactorModel reactor, CoolantModel coolant, SimulationEngine engine,
+                      TelemetryStore telemetry) {
+        this.id = id;
+        this.reactor = reactor;
+        this.coolant = coolant;
+        this.engine = engine;
+        this.scenarios = new ScenarioManager(engine);
+        this.controller = new SimulationController(engine, reactor, coolant, null, scenarios, telemetry);
+    }
+
+    public String getId() { return id; }
+    public ReactorModel getReactor() { return reactor; }
+    public CoolantModel getCoolant() { return coolant; }
+    public SimulationEngine getEngine() { return engine; }
+    public ScenarioManager getScenarios() { return scenarios; }
+    public SimulationController getController() { return controller; }
+    public long getCreatedMillis() { return createdMillis; }
+    public boolean isRunning() { return engine.isRunning(); }
+
+    void close() {
+        engine.stop();
+        scenarios.cancelAll();
+        controller.shutdown();
+    }
+
+    @Override
+    public String toString() { return id; }
+}
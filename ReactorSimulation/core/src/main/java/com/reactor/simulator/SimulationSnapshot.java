@@ -0,0 +1,187 @@
+package com.reactor.simulator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable copy of the full simulation state at one tick: both models (state and parameters), the
+ * simulated time, the integrator in use and the scenario actions still pending. Capturing one is a
+ * handful of field reads, so it can be taken from a live session at any time; the live models can
+ * be restored from it, or a fork can be run ahead from it at full speed without touching them.
+ */
+public final class SimulationSnapshot {
+    private final long tick;
+    private final long epoch;
+    private final double dt;
+    private final IntegratorType integratorType;
+
+    private final double coreTemp;
+    private final double controlRodPosition;
+    private final double nominalPower;
+    private final double coreMass;
+    private final double coreSpecificHeat;
+    private final double uCore;
+
+    private final double coolantTemp;
+    private final double flowRate;
+    private final double coolantMass;
+    private final double coolantSpecificHeat;
+    private final double sinkTemp;
+    private final double uCoolant;
+
+    private final List<ScheduledAction> pendingActions;
+
+    SimulationSnapshot(long tick, double dt, IntegratorType integratorType,
+                       ReactorModel reactor, CoolantModel coolant, List<ScheduledAction> pendingActions) {
+        this(tick, 0L, dt, integratorType, reactor.getCoreTemp(), reactor.getControlRodPosition(),
+                coolant.getCoolantTemp(), coolant.getFlowRate(), reactor, coolant, pendingActions);
+    }
+
+    // state values given separately (e.g. from the engine's published copy); parameters from the models
+    SimulationSnapshot(long tick, long epoch, double dt, IntegratorType integratorType,
+                       double coreTemp, double controlRodPosition, double coolantTemp, double flowRate,
+                       ReactorModel reactor, CoolantModel coolant, List<ScheduledAction> pendingActions) {
+        this.tick = tick;
+        this.epoch = epoch;
+        this.dt = dt;
+        this.integratorType = integratorType;
+        this.coreTemp = coreTemp;
+        this.controlRodPosition = controlRodPosition;
+        this.nominalPower = reactor.getNominalPower();
+        this.coreMass = reactor.getCoreMass();
+        this.coreSpecificHeat = reactor.getCoreSpecificHeat();
+        this.uCore = reactor.getUCoreToCoolant();
+        this.coolantTemp = coolantTemp;
+        this.flowRate = flowRate;
+        this.coolantMass = coolant.getCoolantMass();
+        this.coolantSpecificHeat = coolant.getCoolantSpecificHeat();
+        this.sinkTemp = coolant.getSinkTemp();
+        this.uCoolant = coolant.getUCoreToCoolant();
+        this.pendingActions = sorted(pendingActions);
+    }
+
+    private SimulationSnapshot(SimulationSnapshot base, List<ScheduledAction> pendingActions) {
+        this.tick = base.tick;
+        this.epoch = base.epoch;
+        this.dt = base.dt;
+        this.integratorType = base.integratorType;
+        this.coreTemp = base.coreTemp;
+        this.controlRodPosition = base.controlRodPosition;
+        this.nominalPower = base.nominalPower;
+        this.coreMass = base.coreMass;
+        this.coreSpecificHeat = base.coreSpecificHeat;
+        this.uCore = base.uCore;
+        this.coolantTemp = base.coolantTemp;
+        this.flowRate = base.flowRate;
+        this.coolantMass = base.coolantMass;
+        this.coolantSpecificHeat = base.coolantSpecificHeat;
+        this.sinkTemp = base.sinkTemp;
+        this.uCoolant = base.uCoolant;
+        this.pendingActions = sorted(pendingActions);
+    }
+
+    private static List<ScheduledAction> sorted(List<ScheduledAction> actions) {
+        if (actions == null || actions.isEmpty()) return Collections.emptyList();
+        List<ScheduledAction> copy = new ArrayList<>(actions);
+        copy.sort(Comparator.comparingDouble(ScheduledAction::getDueTime));
+        return Collections.unmodifiableList(copy);
+    }
+
+    public long getTick() { return tick; }
+    /**
+     * How many times the engine's simulated time had jumped (reset, setSimTime, restore) when this
+     * state was published. Two states with the same epoch lie on one continuous run.
+     */
+    public long getEpoch() { return epoch; }
+    public double getDt() { return dt; }
+    public double getSimTime() { return tick * dt; }
+    public IntegratorType getIntegratorType() { return integratorType; }
+    public double getCoreTemp() { return coreTemp; }
+    public double getControlRodPosition() { return controlRodPosition; }
+    public double getCoolantTemp() { return coolantTemp; }
+    public double getFlowRate() { return flowRate; }
+    public List<ScheduledAction> getPendingActions() { return pendingActions; }
+
+    /** A copy of this snapshot with {@code extra} added to the pending actions. */
+    public SimulationSnapshot withActions(List<ScheduledAction> extra) {
+        if (extra == null || extra.isEmpty()) return this;
+        List<ScheduledAction> all = new ArrayList<>(pendingActions);
+        all.addAll(extra);
+        return new SimulationSnapshot(this, all);
+    }
+
+    public ReactorModel newReactorModel() {
+        ReactorModel r = new ReactorModel(coreTemp, nominalPower, coreMass, coreSpecificHeat, uCore);
+        r.setControlRodPosition(controlRodPosition);
+        return r;
+    }
+
+    public CoolantModel newCoolantModel() {
+        CoolantModel c = new CoolantModel(coolantTemp, coolantMass, coolantSpecificHeat, sinkTemp, uCoolant);
+        c.setFlowRate(flowRate);
+        return c;
+    }
+
+    /** Copies the mutable state back into existing models; their parameters are left as they are. */
+    public void applyTo(ReactorModel reactor, CoolantModel coolant) {
+        reactor.setCoreTemp(coreTemp);
+        reactor.setControlRodPosition(controlRodPosition);
+        coolant.setCoolantTemp(coolantTemp);
+        coolant.setFlowRate(flowRate);
+    }
+
+    /**
+     * Runs an independent copy of this state for {@code horizonSeconds} of simulated time on the
+     * calling thread, applying the pending actions when they fall due. Every
+     * {@code recordEvery}-th sample is kept plus the final one, as in
+     * {@link SimulationEngine#runHeadless}.
+     */
+    public SimulationTrace runAhead(double horizonSeconds, StopCondition stopCondition, int recordEvery) {
+        ReactorModel reactor = newReactorModel();
+        CoolantModel coolant = newCoolantModel();
+        Integrator integrator = integratorType.create();
+        SimulationTrace trace = new SimulationTrace();
+        trace.observe(reactor.getCoreTemp());
+
+        int next = 0;
+        long t = tick;
+        long endTick = tick + (long) Math.ceil(horizonSeconds / dt - 1e-9);
+        long ticks = 0;
+        boolean stoppedByCondition = false;
+        while (t < endTick) {
+            // actions due by the start of this step act on it, as they would in the live engine
+            double now = t * dt;
+            while (next < pendingActions.size() && pendingActions.get(next).getDueTime() <= now + 1e-9) {
+                pendingActions.get(next++).apply(reactor, coolant);
+            }
+            integrator.step(reactor, coolant, dt);
+            t++;
+            ticks++;
+            double simTime = t * dt;
+            double core = reactor.getCoreTemp();
+            double cool = coolant.getCoolantTemp();
+            trace.observe(core);
+            boolean stop = stopCondition != null && stopCondition.shouldStop(simTime, core, cool);
+            boolean last = stop || t >= endTick;
+            if (last || (recordEvery > 0 && ticks % recordEvery == 0)) {
+                trace.add(simTime, core, cool);
+            }
+            if (stop) {
+                stoppedByCondition = true;
+                break;
+            }
+        }
+        trace.finish(ticks, stoppedByCondition);
+        return trace;
+    }
+
+    /** {@link #runAhead} on {@code executor}. */
+    public CompletableFuture<SimulationTrace> runAheadAsync(double horizonSeconds, StopCondition stopCondition,
+                                                            int recordEvery, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> runAhead(horizonSeconds, stopCondition, recordEvery), executor);
+    }
+}
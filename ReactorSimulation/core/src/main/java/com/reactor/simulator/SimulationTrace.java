@@ -0,0 +1,55 @@
+package com.reactor.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Samples produced by a headless run, stored as primitive columns, plus the peak core
+ * temperature over every step whether it was recorded or not.
+ */
+public class SimulationTrace {
+    private double[] time = new double[256];
+    private double[] core = new double[256];
+    private double[] coolant = new double[256];
+    private int size = 0;
+    private double peakCoreTemp = Double.NEGATIVE_INFINITY;
+    private long ticks = 0;
+    private boolean stoppedByCondition = false;
+
+    void observe(double coreTemp) {
+        if (coreTemp > peakCoreTemp) peakCoreTemp = coreTemp;
+    }
+
+    void add(double t, double coreTemp, double coolantTemp) {
+        observe(coreTemp);
+        if (size == time.length) {
+            int cap = size * 2;
+            time = Arrays.copyOf(time, cap);
+            core = Arrays.copyOf(core, cap);
+            coolant = Arrays.copyOf(coolant, cap);
+        }
+        time[size] = t;
+        core[size] = coreTemp;
+        coolant[size] = coolantTemp;
+        size++;
+    }
+
+    void finish(long ticks, boolean stoppedByCondition) {
+        this.ticks = ticks;
+        this.stoppedByCondition = stoppedByCondition;
+    }
+
+    public int size() { return size; }
+    public double getTime(int i) { return time[i]; }
+    public double getCoreTemp(int i) { return core[i]; }
+    public double getCoolantTemp(int i) { return coolant[i]; }
+
+    public long getTicks() { return ticks; }
+    public boolean isStoppedByCondition() { return stoppedByCondition; }
+
+    public double getEndTime() { return size == 0 ? 0.0 : time[size - 1]; }
+    public double getFinalCoreTemp() { return size == 0 ? Double.NaN : core[size - 1]; }
+    public double getFinalCoolantTemp() { return size == 0 ? Double.NaN : coolant[size - 1]; }
+
+    /** Highest core temperature of the run, initial state included. */
+    public double getPeakCoreTemp() { return peakCoreTemp; }
+}
@@ -0,0 +1,17 @@
+package com.reactor.simulator;
+
+/**
+ * What {@link SimulationController} tells its user interface. The controller calls these from any
+ * thread, the engine thread included, so implementations hand the work to their own UI thread.
+ * Headless controllers have no view.
+ */
+public interface SimulationView {
+    void setStatusText(String text);
+
+    void setRodSliderValue(double position);
+
+    void setFlowSliderValue(double flow);
+
+    /** The simulation was reset: clear charts and readouts. */
+    void onSimulationReset();
+}
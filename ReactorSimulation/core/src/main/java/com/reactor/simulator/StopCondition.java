@@ -0,0 +1,5 @@
+package com.reactor.simulator;
+
+public interface StopCondition {
+    boolean shouldStop(double simTime, double coreTemp, double coolantTemp);
+}
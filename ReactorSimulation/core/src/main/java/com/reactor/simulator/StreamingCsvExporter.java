@@ -0,0 +1,232 @@
+package com.reactor.simulator;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams engine samples to CSV from a background thread. Register it with
+ * {@link SimulationEngine#addListener}: the engine thread only copies each sample into a
+ * preallocated batch and hands full batches over a bounded queue, so disk I/O never stalls a
+ * tick. If the writer falls so far behind that no free batch is left, samples are dropped and
+ * counted. Output can be gzip-compressed and rotated by file size or by simulated time.
+ */
+public class StreamingCsvExporter implements SimulationListener, AutoCloseable {
+    private static final int BATCH_ROWS = 512;
+    private static final int BATCHES = 64;
+    private static final int FIELDS = 5;
+    private static final long MAX_BATCH_AGE_NANOS = 1_000_000_000L;
+
+    private static final class Batch {
+        final double[] rows = new double[BATCH_ROWS * FIELDS];
+        int count = 0;
+    }
+
+    private static final Batch POISON = new Batch();
+
+    private final File baseFile;
+    private final boolean gzip;
+    private final long rotateBytes;
+    private final double rotateSeconds;
+
+    private final BlockingQueue<Batch> filled = new ArrayBlockingQueue<>(BATCHES + 1);
+    private final BlockingQueue<Batch> free = new ArrayBlockingQueue<>(BATCHES);
+    private final Thread writerThread;
+
+    // engine-thread state
+    private Batch current;
+    private long batchStartNanos;
+    private volatile boolean closed = false;
+    // set while the engine thread is inside onSample, so close() can wait for an in-flight tick
+    private volatile boolean inSample = false;
+
+    private volatile long rowsWritten = 0;
+    private volatile long rowsDropped = 0;
+    private volatile int filesWritten = 0;
+    private volatile IOException error;
+
+    /**
+     * @param rotateBytes   start a new file once the current one reaches this many bytes on disk (0 = never)
+     * @param rotateSeconds start a new file every this many simulated seconds (0 = never)
+     */
+    public StreamingCsvExporter(File file, boolean gzip, long rotateBytes, double rotateSeconds) {
+        this.baseFile = file;
+        this.gzip = gzip;
+        this.rotateBytes = rotateBytes;
+        this.rotateSeconds = rotateSeconds;
+        for (int i = 0; i < BATCHES; i++) free.add(new Batch());
+        writerThread = new Thread(this::writeLoop, "CsvStreamWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void onUpdate(double coreTemp, double coolantTemp) {
+        onSample(Double.NaN, coreTemp, coolantTemp, Double.NaN, Double.NaN);
+    }
+
+    @Override
+    public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+        inSample = true;
+        try {
+            if (!closed) append(simTime, coreTemp, coolantTemp, rodPosition, flowRate);
+        } finally {
+            inSample = false;
+        }
+    }
+
+    private void append(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+        if (current == null) {
+            current = free.poll();
+            if (current == null) {
+                rowsDropped++;
+                return;
+            }
+            batchStartNanos = System.nanoTime();
+        }
+        double[] r = current.rows;
+        int o = current.count * FIELDS;
+        r[o] = simTime;
+        r[o + 1] = coreTemp;
+        r[o + 2] = coolantTemp;
+        r[o + 3] = rodPosition;
+        r[o + 4] = flowRate;
+        current.count++;
+        // hand over full batches, and partial ones after a second so slow runs still reach disk
+        if (current.count == BATCH_ROWS || System.nanoTime() - batchStartNanos > MAX_BATCH_AGE_NANOS) {
+            filled.offer(current);
+            current = null;
+        }
+    }
+
+    /**
+     * Flushes the pending batch, waits for the writer to finish and closes the file. Call after the
+     * exporter has been removed from the engine (or the engine stopped).
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        while (inSample) Thread.onSpinWait();
+        if (current != null && current.count > 0) filled.offer(current);
+        current = null;
+        try {
+            filled.put(POISON);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (error != null) throw error;
+    }
+
+    public long getRowsWritten() { return rowsWritten; }
+    public long getRowsDropped() { return rowsDropped; }
+    public int getFilesWritten() { return filesWritten; }
+    public IOException getError() { return error; }
+
+    private void writeLoop() {
+        StringBuilder sb = new StringBuilder(BATCH_ROWS * 64);
+        Writer out = null;
+        CountingOutputStream counter = null;
+        double fileStartTime = Double.NaN;
+        try {
+            while (true) {
+                Batch b = filled.take();
+                if (b == POISON) break;
+                if (error == null) {
+                    try {
+                        for (int i = 0; i < b.count; i++) {
+                            int o = i * FIELDS;
+                            double t = b.rows[o];
+                            boolean rotate = out != null && (
+                                    (rotateBytes > 0 && counter.count >= rotateBytes)
+                                    || (rotateSeconds > 0 && t - fileStartTime >= rotateSeconds));
+                            if (out == null || rotate) {
+                                if (out != null) {
+                                    out.write(sb.toString());
+                                    sb.setLength(0);
+                                    out.close();
+                                }
+                                counter = new CountingOutputStream(new FileOutputStream(nextFile()));
+                                OutputStream os = gzip ? new GZIPOutputStream(counter, 1 << 16) : counter;
+                                out = new OutputStreamWriter(new BufferedOutputStream(os, 1 << 16), StandardCharsets.UTF_8);
+                                writeHeader(out);
+                                fileStartTime = t;
+                            }
+                            DoubleFormat.append(sb, t, 3).append(',');
+                            DoubleFormat.append(sb, b.rows[o + 1], 6).append(',');
+                            DoubleFormat.append(sb, b.rows[o + 2], 6).append(',');
+                            DoubleFormat.append(sb, b.rows[o + 3], 4).append(',');
+                            DoubleFormat.append(sb, b.rows[o + 4], 3).append('\n');
+                        }
+                        out.write(sb.toString());
+                        sb.setLength(0);
+                        if (filled.isEmpty()) out.flush();
+                        rowsWritten += b.count;
+                    } catch (IOException e) {
+                        error = e;
+                    }
+                }
+                b.count = 0;
+                free.offer(b);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (out != null) {
+                try { out.close(); } catch (IOException e) { if (error == null) error = e; }
+            }
+        }
+    }
+
+    private File nextFile() {
+        int index = filesWritten++;
+        String name = baseFile.getName();
+        if (rotateBytes > 0 || rotateSeconds > 0) {
+            int dot = name.indexOf('.');
+            String stem = dot > 0 ? name.substring(0, dot) : name;
+            String ext = dot > 0 ? name.substring(dot) : ".csv";
+            name = String.format("%s-%04d%s", stem, index + 1, ext);
+        }
+        if (gzip && !name.endsWith(".gz")) name += ".gz";
+        return new File(baseFile.getAbsoluteFile().getParentFile(), name);
+    }
+
+    private static void writeHeader(Writer out) throws IOException {
+        out.write("# Reactor simulation export\n");
+        out.write("# Generated: " + DateTimeFormatter.ISO_INSTANT.format(Instant.now().atOffset(ZoneOffset.UTC)) + " UTC\n");
+        out.write("time_s,core_temp_c,coolant_temp_c,rod_position,flow_kg_s\n");
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count = 0;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.reactor.simulator;
+
+/**
+ * Per-client binary encoding of engine state for {@link TelemetryServer}. Values are quantised
+ * (temperatures and flow to 0.01, rod position to 0.0001) and sent as zigzag varints, so a typical
+ * update is a handful of bytes.
+ * <pre>
+ * key frame:   0x01, varint tick, float64 dt (big-endian), zz core, zz coolant, zz rod, zz flow, u8 status
+ * delta frame: 0x02, varint ticks since last frame, u8 mask, zz difference for each masked field
+ *              (bit 0 core, 1 coolant, 2 rod, 3 flow), u8 status if bit 4 is set
+ * status:      bit 0 running, bits 1-2 highest raised alarm (0 none, 1 caution, 2 critical)
+ * </pre>
+ * The first frame, and the first after simulated time jumped (a new {@link SimulationSnapshot#getEpoch}:
+ * reset, restore), is a key frame. Fields that did not change are omitted from deltas; an unchanged
+ * state encodes to nothing. {@link Decoder} reads the frames back.
+ */
+public final class TelemetryCodec {
+    public static final byte KEY_FRAME = 1;
+    public static final byte DELTA_FRAME = 2;
+    /** Largest frame {@link #encode} can produce. */
+    public static final int MAX_FRAME = 64;
+
+    private static final double TEMP_SCALE = 100.0;
+    private static final double ROD_SCALE = 10_000.0;
+    private static final double FLOW_SCALE = 100.0;
+
+    private boolean started = false;
+    private long lastEpoch;
+    private long lastTick;
+    private final long[] last = new long[4];
+    private int lastStatus;
+    // quantised fields of the frame being encoded
+    private final long[] q = new long[4];
+
+    public static int status(boolean running, AlarmRule.Severity level) {
+        int alarm = level == null ? 0 : level.ordinal() + 1;
+        return (running ? 1 : 0) | (alarm << 1);
+    }
+
+    /** Writes the frame taking the client from its last state to {@code s} into {@code out}; returns its length (0 if nothing changed). */
+    public int encode(SimulationSnapshot s, int status, byte[] out) {
+        long[] q = this.q;
+        q[0] = Math.round(s.getCoreTemp() * TEMP_SCALE);
+        q[1] = Math.round(s.getCoolantTemp() * TEMP_SCALE);
+        q[2] = Math.round(s.getControlRodPosition() * ROD_SCALE);
+        q[3] = Math.round(s.getFlowRate() * FLOW_SCALE);
+        long tick = s.getTick();
+        int pos = 0;
+        // a jump forward past lastTick would otherwise pass for a delta from the old run
+        if (!started || s.getEpoch() != lastEpoch || tick < lastTick) {
+            started = true;
+            lastEpoch = s.getEpoch();
+            out[pos++] = KEY_FRAME;
+            pos = putVarint(out, pos, tick);
+            long dtBits = Double.doubleToLongBits(s.getDt());
+            for (int i = 7; i >= 0; i--) out[pos++] = (byte) (dtBits >>> (8 * i));
+            for (int i = 0; i < q.length; i++) pos = putVarint(out, pos, zigzag(q[i]));
+            out[pos++] = (byte) status;
+        } else {
+            int mask = 0;
+            for (int i = 0; i < q.length; i++) if (q[i] != last[i]) mask |= 1 << i;
+            if (status != lastStatus) mask |= 1 << 4;
+            if (mask == 0 && tick == lastTick) return 0;
+            out[pos++] = DELTA_FRAME;
+            pos = putVarint(out, pos, tick - lastTick);
+            out[pos++] = (byte) mask;
+            for (int i = 0; i < q.length; i++) {
+                if ((mask & (1 << i)) != 0) pos = putVarint(out, pos, zigzag(q[i] - last[i]));
+            }
+            if ((mask & (1 << 4)) != 0) out[pos++] = (byte) status;
+        }
+        System.arraycopy(q, 0, last, 0, q.length);
+        lastTick = tick;
+        lastStatus = status;
+        return pos;
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static int putVarint(byte[] out, int pos, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out[pos++] = (byte) v;
+        return pos;
+    }
+
+    /** Reference reader of the frames {@link #encode} writes; holds the state they add up to. */
+    public static final class Decoder {
+        private boolean started = false;
+        private long tick;
+        private double dt;
+        private final long[] q = new long[4];
+        private int status;
+        private int pos;
+
+        /** Applies the frame in {@code in[off, off + len)}; throws IllegalArgumentException if it is malformed. */
+        public void decode(byte[] in, int off, int len) {
+            pos = off;
+            int end = off + len;
+            if (len < 1) throw new IllegalArgumentException("empty frame");
+            int type = in[pos++];
+            if (type == KEY_FRAME) {
+                tick = varint(in, end);
+                long dtBits = 0;
+                for (int i = 0; i < 8; i++) dtBits = (dtBits << 8) | (byte8(in, end) & 0xFF);
+                dt = Double.longBitsToDouble(dtBits);
+                for (int i = 0; i < q.length; i++) q[i] = unzigzag(varint(in, end));
+                status = byte8(in, end) & 0xFF;
+                started = true;
+            } else if (type == DELTA_FRAME) {
+                if (!started) throw new IllegalArgumentException("delta frame before a key frame");
+                tick += varint(in, end);
+                int mask = byte8(in, end) & 0xFF;
+                for (int i = 0; i < q.length; i++) {
+                    if ((mask & (1 << i)) != 0) q[i] += unzigzag(varint(in, end));
+                }
+                if ((mask & (1 << 4)) != 0) status = byte8(in, end) & 0xFF;
+            } else {
+                throw new IllegalArgumentException("unknown frame type " + type);
+            }
+            if (pos != end) throw new IllegalArgumentException((end - pos) + " trailing bytes");
+        }
+
+        public boolean hasState() { return started; }
+        public long getTick() { return tick; }
+        public double getDt() { return dt; }
+        public double getSimTime() { return tick * dt; }
+        public double getCoreTemp() { return q[0] / TEMP_SCALE; }
+        public double getCoolantTemp() { return q[1] / TEMP_SCALE; }
+        public double getControlRodPosition() { return q[2] / ROD_SCALE; }
+        public double getFlowRate() { return q[3] / FLOW_SCALE; }
+        public int getStatus() { return status; }
+        public boolean isRunning() { return (status & 1) != 0; }
+        /** Highest raised alarm, or null for none. */
+        public AlarmRule.Severity getAlarmLevel() {
+            int alarm = (status >>> 1) & 3;
+            return alarm == 0 ? null : AlarmRule.Severity.values()[alarm - 1];
+        }
+
+        private byte byte8(byte[] in, int end) {
+            if (pos >= end) throw new IllegalArgumentException("truncated frame");
+            return in[pos++];
+        }
+
+        private long varint(byte[] in, int end) {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = byte8(in, end);
+                v |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return v;
+            }
+            throw new IllegalArgumentException("varint too long");
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.reactor.simulator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes the simulation to local clients over WebSocket ({@code /telemetry}) and plain HTTP
+ * ({@code /state} as JSON). Every client gets a virtual thread that samples the engine's published
+ * state at a fixed rate and sends {@link TelemetryCodec} frames, so a slow client only blocks its
+ * own thread and simply gets the latest state once it catches up; the engine never waits for it.
+ * <p>
+ * Clients send text commands: {@code rod <0..1>}, {@code flow <kg/s>}, {@code scram},
+ * {@code inject}, {@code start}, {@code stop}, {@code reset}, {@code ack}, {@code timescale <x>},
+ * {@code spike <seconds> <rod>} and {@code coolant-failure <seconds>}; each is answered with
+ * {@code ok} or {@code error: ...}. Binds to loopback by default and refuses browser origins other
+ * than localhost.
+ */
+public class TelemetryServer implements Closeable {
+    public static final int DEFAULT_PORT = 8787;
+    private static final String WS_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int MAX_CLIENTS = 1024;
+    private static final int MAX_HEADER_BYTES = 8192;
+    private static final int MAX_MESSAGE = 4096;
+    private static final int HEADER_TIMEOUT_MILLIS = 5000;
+
+    private static final int OP_TEXT = 0x1;
+    private static final int OP_BINARY = 0x2;
+    private static final int OP_CLOSE = 0x8;
+    private static final int OP_PING = 0x9;
+    private static final int OP_PONG = 0xA;
+
+    private final SimulationController controller;
+    private final SimulationEngine engine;
+    private final ServerSocket server;
+    private final long periodNanos;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+    private volatile boolean closed = false;
+
+    public TelemetryServer(SimulationController controller, SimulationEngine engine, InetSocketAddress bind,
+                           double updatesPerSecond) throws IOException {
+        if (!(updatesPerSecond > 0)) throw new IllegalArgumentException("updatesPerSecond must be > 0");
+        this.controller = controller;
+        this.engine = engine;
+        this.periodNanos = (long) (1e9 / updatesPerSecond);
+        this.server = new ServerSocket();
+        server.bind(bind, 128);
+        acceptor = new Thread(this::acceptLoop, "TelemetryServer-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() { return server.getLocalPort(); }
+    public int getClientCount() { return clients.size(); }
+
+    /** Blocks until the server is closed. */
+    public void awaitClose() throws InterruptedException {
+        acceptor.join();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try { server.close(); } catch (IOException ignored) {}
+        for (Client c : clients) c.close();
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = server.accept();
+                Thread.ofVirtual().name("telemetry-client").start(() -> handle(socket));
+            } catch (IOException e) {
+                if (closed) return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            socket.setSoTimeout(HEADER_TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            Map<String, String> headers = new HashMap<>();
+            String[] requestLine = readRequest(in, headers);
+            if (requestLine == null) return;
+            String path = URI.create(requestLine[1]).getPath();
+
+            if (!"GET".equals(requestLine[0])) {
+                respond(out, "405 Method Not Allowed", "text/plain", "GET only\n");
+            } else if (!localOrigin(headers.get("origin"))) {
+                respond(out, "403 Forbidden", "text/plain", "origin not allowed\n");
+            } else if ("/telemetry".equals(path) && "websocket".equalsIgnoreCase(headers.get("upgrade"))) {
+                if (clients.size() >= MAX_CLIENTS) {
+                    respond(out, "503 Service Unavailable", "text/plain", "too many clients\n");
+                    return;
+                }
+                String key = headers.get("sec-websocket-key");
+                if (key == null || !"13".equals(headers.get("sec-websocket-version"))) {
+                    respond(out, "400 Bad Request", "text/plain", "WebSocket version 13 required\n");
+                    return;
+                }
+                out.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+                        + "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                socket.setSoTimeout(0);
+                Client client = new Client(socket, in, out);
+                clients.add(client);
+                try {
+                    client.run();
+                } finally {
+                    clients.remove(client);
+                    client.close();
+                }
+            } else if ("/state".equals(path)) {
+                respond(out, "200 OK", "application/json", stateJson());
+            } else if ("/".equals(path)) {
+                respond(out, "200 OK", "text/plain", "Reactor telemetry: WebSocket /telemetry, JSON /state\n");
+            } else {
+                respond(out, "404 Not Found", "text/plain", "not found\n");
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // client went away or sent garbage; nothing to report
+        }
+    }
+
+    // request line split in three, headers lower-cased into {@code headers}; null on EOF
+    private static String[] readRequest(InputStream in, Map<String, String> headers) throws IOException {
+        int[] budget = {MAX_HEADER_BYTES};
+        String line = readLine(in, budget);
+        if (line == null) return null;
+        String[] parts = line.split(" ");
+        if (parts.length != 3) throw new IOException("bad request line");
+        while ((line = readLine(in, budget)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+        }
+        return parts;
+    }
+
+    private static String readLine(InputStream in, int[] budget) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (--budget[0] < 0) throw new IOException("request header too large");
+            if (b == '\n') break;
+            if (b != '\r') sb.append((char) b);
+        }
+        return b < 0 && sb.length() == 0 ? null : sb.toString();
+    }
+
+    private static boolean localOrigin(String origin) {
+        if (origin == null) return true; // not a browser
+        try {
+            String host = URI.create(origin).getHost();
+            return "localhost".equals(host) || "127.0.0.1".equals(host) || "[::1]".equals(host);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String acceptKey(String key) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            return Base64.getEncoder().encodeToString(sha1.digest((key + WS_GUID).getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(OutputStream out, String status, String type, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        out.write(("HTTP/1.1 " + status + "\r\nContent-Type: " + type + "; charset=utf-8\r\nContent-Length: "
+                + bytes.length + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(bytes);
+        out.flush();
+    }
+
+    private String stateJson() {
+        SimulationSnapshot s = engine.getState();
+        AlarmRule.Severity level = controller.getAlarmLevel();
+        return String.format(Locale.ROOT,
+                "{\"tick\":%d,\"time\":%.3f,\"core\":%.4f,\"coolant\":%.4f,\"rod\":%.4f,\"flow\":%.3f,"
+                        + "\"running\":%b,\"alarm\":%s,\"clients\":%d}\n",
+                s.getTick(), s.getSimTime(), s.getCoreTemp(), s.getCoolantTemp(), s.getControlRodPosition(),
+                s.getFlowRate(), engine.isRunning(), level == null ? "null" : "\"" + level + "\"", clients.size());
+    }
+
+    // runs on the client's reader thread
+    String execute(String command) {
+        String[] w = command.trim().split("\\s+");
+        try {
+            switch (w[0].toLowerCase(Locale.ROOT)) {
+                case "rod" -> controller.setControlRodPosition(Double.parseDouble(w[1]));
+                case "flow" -> controller.setFlowRate(Double.parseDouble(w[1]));
+                case "scram" -> controller.scram();
+                case "inject" -> controller.emergencyInject(controller.getEmergencyInjectionDurationSec(),
+                        controller.getEmergencyInjectionFlow());
+                case "start" -> controller.startSimulation();
+                case "stop" -> controller.stopSimulation();
+                case "reset" -> controller.resetSimulation();
+                case "ack" -> controller.acknowledgeAlarms();
+                case "timescale" -> controller.setTimeScale(Double.parseDouble(w[1]));
+                case "spike" -> controller.triggerReactivitySpike(Double.parseDouble(w[1]), Double.parseDouble(w[2]));
+                case "coolant-failure" -> controller.triggerCoolantFailure(Double.parseDouble(w[1]));
+                default -> { return "error: unknown command '" + w[0] + "'"; }
+            }
+            return "ok";
+        } catch (IndexOutOfBoundsException e) {
+            return "error: missing argument";
+        } catch (IllegalArgumentException e) {
+            return "error: " + e.getMessage();
+        }
+    }
+
+    /** One WebSocket connection: this thread reads commands, a second virtual thread streams state. */
+    private final class Client {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        // frames come from both threads; a ReentrantLock keeps virtual threads unpinned while blocked on the socket
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private final TelemetryCodec codec = new TelemetryCodec();
+        private final byte[] frame = new byte[TelemetryCodec.MAX_FRAME];
+        private volatile boolean open = true;
+
+        Client(Socket socket, InputStream in, OutputStream out) {
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+        }
+
+        void run() throws IOException {
+            Thread writer = Thread.ofVirtual().name("telemetry-writer").start(this::streamLoop);
+            try {
+                readLoop();
+            } finally {
+                open = false;
+                writer.interrupt();
+            }
+        }
+
+        // paced sampling rather than a push per tick: whatever a slow client missed is simply skipped
+        private void streamLoop() {
+            long next = System.nanoTime();
+            try {
+                while (open) {
+                    SimulationSnapshot s = engine.getState();
+                    int n = codec.encode(s, TelemetryCodec.status(engine.isRunning(), controller.getAlarmLevel()), frame);
+                    if (n > 0) send(OP_BINARY, frame, n);
+                    next += periodNanos;
+                    long wait = next - System.nanoTime();
+                    if (wait > 0) Thread.sleep(wait / 1_000_000L, (int) (wait % 1_000_000L));
+                    else next = System.nanoTime(); // fell behind: no burst to catch up
+                }
+            } catch (IOException | InterruptedException e) {
+                close();
+            }
+        }
+
+        private void readLoop() throws IOException {
+            byte[] mask = new byte[4];
+            while (open) {
+                int b0 = in.read();
+                if (b0 < 0) return;
+                int b1 = readByte();
+                int op = b0 & 0x0F;
+                long len = b1 & 0x7F;
+                if (len == 126) len = (readByte() << 8) | readByte();
+                else if (len == 127) {
+                    len = 0;
+                    for (int i = 0; i < 8; i++) len = (len << 8) | readByte();
+                }
+                if ((b1 & 0x80) == 0) {
+                    closeWith(1002); // clients must mask
+                    return;
+                }
+                if (len > MAX_MESSAGE) {
+                    closeWith(1009);
+                    return;
+                }
+                if (in.readNBytes(mask, 0, 4) != 4) return;
+                byte[] payload = in.readNBytes((int) len);
+                if (payload.length != len) return;
+                for (int i = 0; i < payload.length; i++) payload[i] ^= mask[i & 3];
+                if ((b0 & 0x80) == 0 || op == 0) {
+                    closeWith(1003); // fragmented messages are not supported
+                    return;
+                }
+                switch (op) {
+                    case OP_TEXT -> {
+                        byte[] reply = execute(new String(payload, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+                        send(OP_TEXT, reply, reply.length);
+                    }
+                    case OP_PING -> send(OP_PONG, payload, payload.length);
+                    case OP_CLOSE -> {
+                        send(OP_CLOSE, payload, Math.min(2, payload.length));
+                        return;
+                    }
+                    default -> { } // binary and pong are ignored
+                }
+            }
+        }
+
+        private int readByte() throws IOException {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            return b;
+        }
+
+        private void send(int op, byte[] data, int len) throws IOException {
+            writeLock.lock();
+            try {
+                out.write(0x80 | op);
+                if (len < 126) {
+                    out.write(len);
+                } else {
+                    out.write(126);
+                    out.write(len >>> 8);
+                    out.write(len);
+                }
+                out.write(data, 0, len);
+                out.flush();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private void closeWith(int code) throws IOException {
+            send(OP_CLOSE, new byte[]{(byte) (code >>> 8), (byte) code}, 2);
+        }
+
+        void close() {
+            open = false;
+            try { socket.close(); } catch (IOException ignored) {}
+        }
+    }
+
+    /** Headless server: runs the default plant and serves it until the process is stopped. */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ReactorModel reactor = new ReactorModel(300.0, 2.0e7, 5.0e4, 500.0, 1.0e5);
+        CoolantModel coolant = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, 0.5);
+        engine.getMetrics().register();
+        SimulationController controller = new SimulationController(engine, reactor, coolant, null);
+        TelemetryServer server = new TelemetryServer(controller, engine,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 20.0);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            controller.shutdown();
+        }));
+        controller.startSimulation();
+        System.out.println("Telemetry on ws://localhost:" + server.getPort() + "/telemetry");
+        server.awaitClose();
+    }
+}
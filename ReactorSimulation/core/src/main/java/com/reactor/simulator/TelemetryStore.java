@@ -0,0 +1,159 @@
+package com.reactor.simulator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Append-only columnar store of engine samples. Each column is kept in fixed-size chunks of
+ * primitive doubles, on the Java heap or, optionally, in direct (off-heap) buffers, so the store
+ * grows without copying and adds no per-sample objects. One thread appends; any thread may read
+ * rows below {@link #size()} concurrently. Text is produced only by exporters.
+ */
+public class TelemetryStore implements RecordedRun {
+    public static final int TIME = 0;
+    public static final int CORE = 1;
+    public static final int COOLANT = 2;
+    public static final int ROD = 3;
+    public static final int FLOW = 4;
+    public static final int POWER = 5;
+    public static final int COLUMNS = 6;
+
+    /** Rows per chunk unless the constructor is given another size. */
+    public static final int DEFAULT_CHUNK_ROWS = 1 << 14;
+
+    public interface RowVisitor {
+        void row(long index, double time, double core, double coolant, double rod, double flow, double power);
+    }
+
+    // replaced wholesale by clear(), so readers holding the old one keep a consistent view
+    private static final class Data {
+        volatile DoubleBuffer[][] chunks = new DoubleBuffer[0][];
+        volatile long size = 0;
+    }
+
+    private final boolean offHeap;
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int chunkMask;
+    private volatile Data data = new Data();
+
+    public TelemetryStore() {
+        this(false);
+    }
+
+    public TelemetryStore(boolean offHeap) {
+        this(offHeap, DEFAULT_CHUNK_ROWS);
+    }
+
+    /** {@code chunkRows} is rounded up to a power of two; memory is reserved a chunk at a time. */
+    public TelemetryStore(boolean offHeap, int chunkRows) {
+        if (chunkRows < 1) throw new IllegalArgumentException("chunkRows < 1");
+        this.offHeap = offHeap;
+        this.chunkShift = 32 - Integer.numberOfLeadingZeros(chunkRows - 1);
+        this.chunkSize = 1 << chunkShift;
+        this.chunkMask = chunkSize - 1;
+    }
+
+    public boolean isOffHeap() { return offHeap; }
+
+    public long size() { return data.size; }
+
+    /** Writer side. */
+    public void append(double time, double core, double coolant, double rod, double flow, double power) {
+        Data d = data;
+        long row = d.size;
+        int chunk = (int) (row >>> chunkShift);
+        DoubleBuffer[][] chunks = d.chunks;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length + 1);
+            chunks[chunk] = newChunk();
+            d.chunks = chunks;
+        }
+        DoubleBuffer[] c = chunks[chunk];
+        int i = (int) row & chunkMask;
+        c[TIME].put(i, time);
+        c[CORE].put(i, core);
+        c[COOLANT].put(i, coolant);
+        c[ROD].put(i, rod);
+        c[FLOW].put(i, flow);
+        c[POWER].put(i, power);
+        d.size = row + 1;
+    }
+
+    /** Writer side: drops every row. Readers still iterating see the rows they started with. */
+    public void clear() {
+        data = new Data();
+    }
+
+    /** Writer side: drops rows from {@code rows} on, e.g. after the engine is restored to an earlier time. */
+    public void truncate(long rows) {
+        Data d = data;
+        if (rows < d.size) d.size = Math.max(0, rows);
+    }
+
+    public double get(int column, long row) {
+        Data d = data;
+        if (row < 0 || row >= d.size) throw new IndexOutOfBoundsException("row " + row);
+        return d.chunks[(int) (row >>> chunkShift)][column].get((int) row & chunkMask);
+    }
+
+    /** First row whose time is >= {@code t}, or {@link #size()} if none; times are non-decreasing. */
+    public long indexOfTime(double t) {
+        Data d = data;
+        // size before chunks: the writer publishes a new chunk before the size that reaches into it
+        long lo = 0, hi = d.size;
+        DoubleBuffer[][] chunks = d.chunks;
+        while (lo < hi) {
+            long mid = (lo + hi) >>> 1;
+            if (chunks[(int) (mid >>> chunkShift)][TIME].get((int) mid & chunkMask) < t) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** Copies up to {@code len} values of one column starting at {@code from}; returns the count copied. */
+    public int read(int column, long from, double[] dst, int off, int len) {
+        Data d = data;
+        long end = Math.min(d.size, from + len);
+        DoubleBuffer[][] chunks = d.chunks;
+        int n = 0;
+        for (long row = from; row < end; ) {
+            int i = (int) row & chunkMask;
+            int run = (int) Math.min(chunkSize - i, end - row);
+            chunks[(int) (row >>> chunkShift)][column].get(i, dst, off + n, run);
+            n += run;
+            row += run;
+        }
+        return n;
+    }
+
+    /** Visits rows in [from, to), clipped to the rows present when the call starts. */
+    public void forEach(long from, long to, RowVisitor visitor) {
+        Data d = data;
+        long end = Math.min(to, d.size);
+        DoubleBuffer[][] chunks = d.chunks;
+        for (long row = Math.max(0, from); row < end; row++) {
+            DoubleBuffer[] c = chunks[(int) (row >>> chunkShift)];
+            int i = (int) row & chunkMask;
+            visitor.row(row, c[TIME].get(i), c[CORE].get(i), c[COOLANT].get(i),
+                    c[ROD].get(i), c[FLOW].get(i), c[POWER].get(i));
+        }
+    }
+
+    /** Bytes reserved by the chunks (heap or direct). */
+    public long getCapacityBytes() {
+        return (long) data.chunks.length * COLUMNS * chunkSize * Double.BYTES;
+    }
+
+    private DoubleBuffer[] newChunk() {
+        DoubleBuffer[] c = new DoubleBuffer[COLUMNS];
+        for (int col = 0; col < COLUMNS; col++) {
+            c[col] = offHeap
+                    ? ByteBuffer.allocateDirect(chunkSize * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer()
+                    : DoubleBuffer.wrap(new double[chunkSize]);
+        }
+        return c;
+    }
+}
@@ -0,0 +1,136 @@
+package com.reactor.simulator;
+
+/**
+ * Sliding time window of (time, value) samples in a primitive circular buffer. Samples older than
+ * {@code windowSeconds} behind the newest are evicted in O(1) as new ones arrive; the buffer only
+ * grows if the sample rate exceeds what the initial capacity covers. A min/max segment tree over
+ * the buffer answers range extrema in O(log n), so renderers can decimate per pixel without
+ * scanning every sample.
+ */
+public class TimeSeriesWindow {
+    private final double windowSeconds;
+    private double[] times;
+    private double[] values;
+    // segment trees over physical slots: leaves at [cap, 2*cap), node k covers children 2k and 2k+1
+    private double[] minTree;
+    private double[] maxTree;
+    private int head = 0;   // physical index of the oldest sample
+    private int size = 0;
+
+    public TimeSeriesWindow(double windowSeconds, int initialCapacity) {
+        this.windowSeconds = windowSeconds;
+        int cap = Integer.highestOneBit(Math.max(16, initialCapacity) - 1) << 1;
+        times = new double[cap];
+        values = new double[cap];
+        minTree = new double[2 * cap];
+        maxTree = new double[2 * cap];
+    }
+
+    public double getWindowSeconds() { return windowSeconds; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void add(double t, double v) {
+        // evict by time first so steady state never needs to grow
+        while (size > 0 && t - times[head] > windowSeconds) {
+            head = next(head);
+            size--;
+        }
+        if (size == times.length) grow();
+        int tail = physical(size);
+        times[tail] = t;
+        values[tail] = v;
+        size++;
+        updateTree(tail, v);
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /** Logical index 0 is the oldest sample in the window. */
+    public double getTime(int i) { return times[physical(i)]; }
+    public double getValue(int i) { return values[physical(i)]; }
+
+    public double getFirstTime() { return size == 0 ? Double.NaN : times[head]; }
+    public double getLastTime() { return size == 0 ? Double.NaN : times[physical(size - 1)]; }
+    public double getLastValue() { return size == 0 ? Double.NaN : values[physical(size - 1)]; }
+
+    public double rangeMin(int from, int to) { return range(from, to, false); }
+    public double rangeMax(int from, int to) { return range(from, to, true); }
+
+    /** First logical index whose time is >= {@code t} (size() if none); times are non-decreasing. */
+    public int lowerBound(double t) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[physical(mid)] < t) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int physical(int logical) {
+        int p = head + logical;
+        return p >= times.length ? p - times.length : p;
+    }
+
+    // extremum over logical indices [from, to), which may wrap around the physical end
+    private double range(int from, int to, boolean max) {
+        if (from >= to) return Double.NaN;
+        int a = physical(from);
+        int b = physical(to - 1);
+        if (a <= b) return query(a, b + 1, max);
+        double left = query(a, times.length, max);
+        double right = query(0, b + 1, max);
+        return max ? Math.max(left, right) : Math.min(left, right);
+    }
+
+    private double query(int lo, int hi, boolean max) {
+        double[] tree = max ? maxTree : minTree;
+        double r = max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        int cap = times.length;
+        for (lo += cap, hi += cap; lo < hi; lo >>= 1, hi >>= 1) {
+            if ((lo & 1) == 1) { r = max ? Math.max(r, tree[lo]) : Math.min(r, tree[lo]); lo++; }
+            if ((hi & 1) == 1) { hi--; r = max ? Math.max(r, tree[hi]) : Math.min(r, tree[hi]); }
+        }
+        return r;
+    }
+
+    private void updateTree(int p, double v) {
+        int k = p + times.length;
+        minTree[k] = v;
+        maxTree[k] = v;
+        for (k >>= 1; k >= 1; k >>= 1) {
+            minTree[k] = Math.min(minTree[2 * k], minTree[2 * k + 1]);
+            maxTree[k] = Math.max(maxTree[2 * k], maxTree[2 * k + 1]);
+        }
+    }
+
+    private int next(int p) {
+        return p + 1 == times.length ? 0 : p + 1;
+    }
+
+    private void grow() {
+        int cap = times.length * 2;
+        double[] nt = new double[cap];
+        double[] nv = new double[cap];
+        for (int i = 0; i < size; i++) {
+            int p = physical(i);
+            nt[i] = times[p];
+            nv[i] = values[p];
+        }
+        times = nt;
+        values = nv;
+        head = 0;
+        minTree = new double[2 * cap];
+        maxTree = new double[2 * cap];
+        System.arraycopy(nv, 0, minTree, cap, cap);
+        System.arraycopy(nv, 0, maxTree, cap, cap);
+        for (int k = cap - 1; k >= 1; k--) {
+            minTree[k] = Math.min(minTree[2 * k], minTree[2 * k + 1]);
+            maxTree[k] = Math.max(maxTree[2 * k], maxTree[2 * k + 1]);
+        }
+    }
+}
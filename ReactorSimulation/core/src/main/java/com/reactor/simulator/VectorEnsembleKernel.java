@@ -0,0 +1,46 @@
+package com.reactor.simulator;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD version of {@link EnsembleKernel}. Only loaded through {@link EnsembleKernel#create(int)}
+ * after checking that the incubator module is present.
+ */
+final class VectorEnsembleKernel extends EnsembleKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    VectorEnsembleKernel(int size) {
+        super(size);
+    }
+
+    @Override
+    public boolean isVectorized() { return true; }
+
+    @Override
+    public void step(double dt) {
+        int upper = SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector tc = DoubleVector.fromArray(SPECIES, coreTemp, i);
+            DoubleVector tm = DoubleVector.fromArray(SPECIES, coolantTemp, i);
+
+            DoubleVector powerGen = DoubleVector.fromArray(SPECIES, nominalPower, i)
+                    .mul(DoubleVector.fromArray(SPECIES, rodPosition, i).neg().add(1.0));
+            DoubleVector qCoreToCoolant = DoubleVector.fromArray(SPECIES, uCore, i).mul(tc.sub(tm));
+            tc = tc.add(powerGen.sub(qCoreToCoolant)
+                    .div(DoubleVector.fromArray(SPECIES, coreHeatCapacity, i)).mul(dt));
+
+            DoubleVector qFromCore = DoubleVector.fromArray(SPECIES, uCoolant, i).mul(tc.sub(tm));
+            DoubleVector qRemoved = DoubleVector.fromArray(SPECIES, flowRate, i)
+                    .mul(DoubleVector.fromArray(SPECIES, coolantSpecificHeat, i))
+                    .mul(tm.sub(DoubleVector.fromArray(SPECIES, sinkTemp, i)));
+            tm = tm.add(qFromCore.sub(qRemoved)
+                    .div(DoubleVector.fromArray(SPECIES, coolantHeatCapacity, i)).mul(dt));
+
+            tc.intoArray(coreTemp, i);
+            tm.intoArray(coolantTemp, i);
+        }
+        stepRange(i, size, dt);
+    }
+}
@@ -0,0 +1,147 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlarmEngineTest {
+    private static final double DT = 0.5;
+    private double time = 0.0;
+
+    private static AlarmEngine engine(AlarmRule... rules) {
+        return new AlarmEngine(List.of(rules), DT);
+    }
+
+    // one sample at the next tick; returns the number of transitions
+    private int core(AlarmEngine a, double coreTemp) {
+        int n = a.evaluate(time, coreTemp, 290.0, 0.5, 200.0);
+        time += DT;
+        return n;
+    }
+
+    @Test
+    void raisesAtTheLimitAndClearsBelowTheBand() {
+        AlarmEngine a = engine(new AlarmRule("hot").above(AlarmSignal.CORE_TEMP, 500.0, 2.0));
+        assertEquals(0, core(a, 499.9));
+        assertEquals(1, core(a, 500.0));
+        assertTrue(a.isTransitionRaise(0));
+        assertEquals("hot", a.getTransitionRule(0).getName());
+        assertTrue(a.isActive(0));
+
+        // inside the hysteresis band: stays raised, nothing to report
+        assertEquals(0, core(a, 498.5));
+        assertEquals(0, core(a, 498.0));
+        assertTrue(a.isActive(0));
+
+        assertEquals(1, core(a, 497.9));
+        assertFalse(a.isTransitionRaise(0));
+        assertFalse(a.isActive(0));
+        // and back up only at the raise limit, not the hold limit
+        assertEquals(0, core(a, 499.0));
+    }
+
+    @Test
+    void belowConditionsMirrorTheBand() {
+        AlarmEngine a = new AlarmEngine(List.of(new AlarmRule("low flow").below(AlarmSignal.FLOW_RATE, 50.0, 5.0)), DT);
+        assertEquals(0, a.evaluate(0.0, 300, 290, 0.5, 51.0));
+        assertEquals(1, a.evaluate(0.5, 300, 290, 0.5, 50.0));
+        assertEquals(0, a.evaluate(1.0, 300, 290, 0.5, 55.0));
+        assertEquals(1, a.evaluate(1.5, 300, 290, 0.5, 55.1));
+    }
+
+    @Test
+    void latchedAlarmHoldsUntilAcknowledged() {
+        AlarmEngine a = engine(new AlarmRule("hot").above(AlarmSignal.CORE_TEMP, 500.0, 0.0).setLatching(true));
+        core(a, 510.0);
+        assertTrue(a.isActive(0));
+        assertEquals(0, core(a, 400.0));
+        assertEquals(0, core(a, 400.0));
+        assertTrue(a.isActive(0));
+
+        a.acknowledgeAll();
+        assertEquals(1, core(a, 400.0));
+        assertFalse(a.isActive(0));
+    }
+
+    @Test
+    void acknowledgeWhileStillInAlarmKeepsTheLatch() {
+        AlarmEngine a = engine(new AlarmRule("hot").above(AlarmSignal.CORE_TEMP, 500.0, 0.0).setLatching(true));
+        core(a, 510.0);
+        a.acknowledgeAll();
+        assertEquals(0, core(a, 510.0));
+        // the acknowledge was used up while the condition held, so the alarm latches again
+        assertEquals(0, core(a, 400.0));
+        assertTrue(a.isActive(0));
+    }
+
+    @Test
+    void rateOfChangeRule() {
+        AlarmEngine a = engine(new AlarmRule("heating fast").above(AlarmSignal.CORE_TEMP_RATE, 1.0, 0.0));
+        // no rate on the first sample
+        assertEquals(0, core(a, 300.0));
+        assertEquals(0, core(a, 300.4)); // 0.8 K/s
+        assertEquals(1, core(a, 301.0)); // 1.2 K/s
+        assertEquals(0, core(a, 301.5)); // 1.0 K/s, still at the limit
+        assertEquals(1, core(a, 301.9)); // 0.8 K/s
+    }
+
+    @Test
+    void timeAboveLimitRule() {
+        // 2 s at 0.5 s per sample: raised on the fifth consecutive sample above the limit
+        AlarmEngine a = engine(new AlarmRule("hot for 2 s").above(AlarmSignal.CORE_TEMP, 500.0, 0.0).setDelaySeconds(2.0));
+        for (int i = 0; i < 4; i++) assertEquals(0, core(a, 505.0));
+        assertEquals(0, core(a, 495.0)); // a dip starts the count over
+        for (int i = 0; i < 4; i++) assertEquals(0, core(a, 505.0));
+        assertEquals(1, core(a, 505.0));
+        assertTrue(a.isActive(0));
+    }
+
+    @Test
+    void conditionsOfOneRuleAreAnded() {
+        AlarmEngine a = engine(new AlarmRule("hot and no flow")
+                .above(AlarmSignal.CORE_TEMP, 500.0, 0.0)
+                .below(AlarmSignal.FLOW_RATE, 100.0, 0.0));
+        assertEquals(0, a.evaluate(0.0, 510, 290, 0.5, 200));
+        assertEquals(0, a.evaluate(0.5, 400, 290, 0.5, 50));
+        assertEquals(1, a.evaluate(1.0, 510, 290, 0.5, 50));
+    }
+
+    @Test
+    void highestActiveSeverity() {
+        AlarmEngine a = engine(
+                new AlarmRule("warm").above(AlarmSignal.CORE_TEMP, 400.0, 0.0),
+                new AlarmRule("hot").above(AlarmSignal.CORE_TEMP, 500.0, 0.0).setSeverity(AlarmRule.Severity.CRITICAL));
+        core(a, 300.0);
+        assertNull(a.getHighestActiveSeverity());
+        core(a, 450.0);
+        assertSame(AlarmRule.Severity.CAUTION, a.getHighestActiveSeverity());
+        assertEquals(1, core(a, 550.0));
+        assertSame(AlarmRule.Severity.CRITICAL, a.getHighestActiveSeverity());
+        assertEquals(1, a.getActiveCount(AlarmRule.Severity.CRITICAL));
+    }
+
+    @Test
+    void evaluationDoesNotAllocate() {
+        AlarmEngine a = engine(
+                new AlarmRule("hot").above(AlarmSignal.CORE_TEMP, 500.0, 2.0).setLatching(true),
+                new AlarmRule("heating fast").above(AlarmSignal.CORE_TEMP_RATE, 1.0, 0.1).setDelaySeconds(1.0),
+                new AlarmRule("low flow").below(AlarmSignal.FLOW_RATE, 50.0, 5.0));
+        for (int i = 0; i < 20_000; i++) core(a, 480 + 40 * Math.sin(i * 0.01)); // JIT
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 100_000; i++) {
+            core(a, 480 + 40 * Math.sin(i * 0.01));
+            if (a.getHighestActiveSeverity() != null && i % 1000 == 0) a.acknowledgeAll();
+        }
+        long bytes = threads.getThreadAllocatedBytes(id) - before;
+        assertTrue(bytes < 1024, bytes + " bytes allocated in 100k evaluations");
+    }
+}
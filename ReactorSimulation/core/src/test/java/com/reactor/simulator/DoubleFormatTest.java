@@ -0,0 +1,38 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DoubleFormatTest {
+
+    private static void assertLikeFormat(double v, int decimals) {
+        assertEquals(String.format(Locale.ROOT, "%." + decimals + "f", v), DoubleFormat.format(v, decimals),
+                "format(" + v + ", " + decimals + ")");
+    }
+
+    @Test
+    void decimalTiesAndNegativeZero() {
+        assertEquals("1.01", DoubleFormat.format(1.005, 2));
+        assertEquals("-0.000000", DoubleFormat.format(-1e-7, 6));
+        double[] values = {0.0, -0.0, 0.5, 1.5, 2.5, -2.5, 0.125, 1.005, 2.675, 1.0005, -1e-7, 299.9999995, 512.3456785};
+        for (double v : values) {
+            for (int d = 0; d <= 9; d++) assertLikeFormat(v, d);
+        }
+    }
+
+    @Test
+    void matchesStringFormatOnRandomValues() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        for (int i = 0; i < 200_000; i++) {
+            double v = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(-8, 12));
+            int d = rnd.nextInt(10);
+            assertLikeFormat(v, d);
+            // values written with exactly one digit more than the precision: every one is a decimal tie
+            assertLikeFormat(Math.round(v * Math.pow(10, d + 1)) / Math.pow(10, d + 1), d);
+        }
+    }
+}
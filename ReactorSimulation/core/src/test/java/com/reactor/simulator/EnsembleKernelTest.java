@@ -0,0 +1,47 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EnsembleKernelTest {
+    private static final double DT = 0.5;
+
+    private static void agreesWithModels(EnsembleKernel kernel) {
+        int pairs = kernel.size();
+        ReactorModel[] reactors = new ReactorModel[pairs];
+        CoolantModel[] coolants = new CoolantModel[pairs];
+        for (int i = 0; i < pairs; i++) {
+            double f = (double) i / Math.max(1, pairs - 1);
+            reactors[i] = new ReactorModel(300.0, 1.0e7 + 2.0e7 * f, 5.0e4, 500.0, 1.0e5);
+            coolants[i] = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+            reactors[i].setControlRodPosition(0.9 - 0.9 * f);
+            coolants[i].setFlowRate(100.0 + 400.0 * ((i * 37) % 101) / 100.0);
+            kernel.load(i, reactors[i], coolants[i]);
+        }
+        int steps = 2000;
+        for (int s = 0; s < steps; s++) {
+            for (int i = 0; i < pairs; i++) {
+                reactors[i].update(DT, coolants[i].getCoolantTemp());
+                coolants[i].update(DT, reactors[i].getCoreTemp());
+            }
+        }
+        kernel.step(DT, steps);
+        for (int i = 0; i < pairs; i++) {
+            double core = reactors[i].getCoreTemp(), cool = coolants[i].getCoolantTemp();
+            assertEquals(core, kernel.getCoreTemp(i), 1e-6 * Math.max(1.0, Math.abs(core)), "core " + i);
+            assertEquals(cool, kernel.getCoolantTemp(i), 1e-6 * Math.max(1.0, Math.abs(cool)), "coolant " + i);
+        }
+    }
+
+    @Test
+    void scalarKernelMatchesModels() {
+        agreesWithModels(EnsembleKernel.createScalar(37));
+    }
+
+    // the SIMD kernel when the vector module is present, with a size that leaves a tail after the lanes
+    @Test
+    void defaultKernelMatchesModels() {
+        agreesWithModels(EnsembleKernel.create(1027));
+    }
+}
@@ -0,0 +1,74 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntegratorTest {
+    // 1000 kg/s gives the coolant a 10 s time constant, stiff next to the core's
+    private static final double FLOW = 1000.0;
+
+    // {core, coolant} after {@code seconds} of the default plant with rods at 0.3
+    private static double[] run(IntegratorType type, double dt, double seconds) {
+        ReactorModel reactor = new ReactorModel(300.0, 2.0e7, 5.0e4, 500.0, 1.0e5);
+        CoolantModel coolant = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+        reactor.setControlRodPosition(0.3);
+        coolant.setFlowRate(FLOW);
+        Integrator integrator = type.create();
+        long steps = Math.round(seconds / dt);
+        for (long i = 0; i < steps; i++) integrator.step(reactor, coolant, dt);
+        return new double[]{reactor.getCoreTemp(), coolant.getCoolantTemp()};
+    }
+
+    private static double[] reference(double seconds) {
+        return run(IntegratorType.RK4, 0.01, seconds);
+    }
+
+    private static void assertClose(double[] expected, double[] actual, double tolerance, String what) {
+        assertEquals(expected[0], actual[0], tolerance, what + " core");
+        assertEquals(expected[1], actual[1], tolerance, what + " coolant");
+    }
+
+    @Test
+    void rk4MatchesFineReference() {
+        double[] ref = reference(200.0);
+        assertClose(ref, run(IntegratorType.RK4, 1.0, 200.0), 1e-6, "RK4 dt=1");
+        assertClose(ref, run(IntegratorType.RK4, 10.0, 200.0), 1e-4, "RK4 dt=10");
+        // fourth order against Euler's first at the same step
+        double rk4 = Math.abs(run(IntegratorType.RK4, 10.0, 200.0)[0] - ref[0]);
+        double euler = Math.abs(run(IntegratorType.EULER, 10.0, 200.0)[0] - ref[0]);
+        assertEquals(0.0, rk4 / euler, 1e-4, "RK4/Euler error ratio");
+    }
+
+    @Test
+    void dormandPrinceKeepsAccuracyAtLargeSteps() {
+        // the adaptive integrator substeps inside a frame far longer than the coolant time constant
+        double[] ref = reference(200.0);
+        for (double dt : new double[]{1.0, 10.0, 50.0, 200.0}) {
+            assertClose(ref, run(IntegratorType.DORMAND_PRINCE, dt, 200.0), 5e-4, "Dormand-Prince dt=" + dt);
+        }
+    }
+
+    @Test
+    void exponentialIsExactForTheLinearPlant() {
+        double[] ref = reference(200.0);
+        for (double dt : new double[]{1.0, 10.0, 200.0}) {
+            assertClose(ref, run(IntegratorType.EXPONENTIAL, dt, 200.0), 1e-4, "Exponential dt=" + dt);
+        }
+    }
+
+    @Test
+    void backwardEulerStaysStableAtLargeSteps() {
+        // dt = 200 s is twenty coolant time constants; the explicit methods blow up there
+        double[] ref = reference(2000.0);
+        double explicit = run(IntegratorType.EULER, 200.0, 2000.0)[1];
+        assertTrue(!Double.isFinite(explicit) || Math.abs(explicit - ref[1]) > 100.0, "Euler dt=200 should diverge");
+        double[] implicit = run(IntegratorType.BACKWARD_EULER, 200.0, 2000.0);
+        assertClose(ref, implicit, 1.0, "Backward Euler dt=200");
+        // first order: a tenth of the step, roughly a tenth of the error
+        double coarse = Math.abs(implicit[0] - ref[0]);
+        double fine = Math.abs(run(IntegratorType.BACKWARD_EULER, 20.0, 2000.0)[0] - ref[0]);
+        assertEquals(0.1, fine / coarse, 0.05, "Backward Euler error ratio");
+    }
+}
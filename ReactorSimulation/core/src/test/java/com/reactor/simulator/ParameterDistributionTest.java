@@ -0,0 +1,31 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParameterDistributionTest {
+
+    @Test
+    void normalNeverDrawsZeroOrLess() {
+        // a wide spread puts ~42% of the untruncated mass below zero
+        ParameterDistribution d = ParameterDistribution.normal(1.0, 5.0);
+        SplittableRandom rnd = new SplittableRandom(42);
+        int below = 0;
+        for (int i = 0; i < 100_000; i++) {
+            double x = d.sample(i, 1, rnd);
+            assertTrue(x > 0, "draw " + i + " was " + x);
+            if (x < 1.0) below++;
+        }
+        // truncation moves the median above the mean, but draws below it remain
+        assertTrue(below > 10_000 && below < 50_000, "below mean: " + below);
+    }
+
+    @Test
+    void normalNeedsPositiveMean() {
+        assertThrows(IllegalArgumentException.class, () -> ParameterDistribution.normal(0.0, 1.0));
+    }
+}
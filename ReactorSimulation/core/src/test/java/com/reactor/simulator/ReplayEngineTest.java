@@ -0,0 +1,42 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplayEngineTest {
+
+    @Test
+    void restartLeavesOnePlaybackThread() throws InterruptedException {
+        TelemetryStore store = new TelemetryStore();
+        for (int i = 0; i < 1_000_000; i++) store.append(i * 0.5, 300, 290, 0.5, 200, 1e6);
+        ReplayEngine replay = new ReplayEngine(store);
+        replay.setSpeed(ReplayEngine.MAX_SPEED);
+        Set<Thread> callers = ConcurrentHashMap.newKeySet();
+        replay.addListener(new SimulationListener() {
+            @Override
+            public void onUpdate(double coreTemp, double coolantTemp) { }
+
+            @Override
+            public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+                callers.add(Thread.currentThread());
+            }
+        });
+        try {
+            for (int i = 0; i < 50; i++) {
+                replay.start();
+                replay.stop();
+            }
+            replay.start();
+            Thread.sleep(50);
+            callers.clear();
+            Thread.sleep(200);
+            assertEquals(1, callers.size(), "threads publishing: " + callers);
+        } finally {
+            replay.stop();
+        }
+    }
+}
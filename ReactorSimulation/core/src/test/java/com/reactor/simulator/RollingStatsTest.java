@@ -0,0 +1,76 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RollingStatsTest {
+    private static final double DT = 0.5;
+
+    @Test
+    void matchesBruteForceOverTheWindow() {
+        // 10 s at 0.5 s: 21 samples; the rate is taken 4 samples back
+        RollingStats stats = new RollingStats(10.0, 2.0, DT);
+        assertNull(stats.getSummary());
+        Random rnd = new Random(1);
+        List<double[]> history = new ArrayList<>();
+        long tick = 0;
+        for (int i = 0; i < 200_000; i++) {
+            if (i == 100_000) {
+                // reset: time goes back and the window starts over
+                tick = 0;
+                history.clear();
+            }
+            tick++;
+            double t = tick * DT;
+            // a step of 1e4 late on checks that removals do not leave the variance drifting
+            double x = 300 + 50 * Math.sin(i / 50.0) + rnd.nextGaussian() * 3 + (i > 150_000 ? 1e4 : 0);
+            stats.add(t, x);
+            history.add(new double[]{t, x});
+
+            int n = Math.min(history.size(), 21);
+            List<double[]> window = history.subList(history.size() - n, history.size());
+            double min = Double.MAX_VALUE, max = -Double.MAX_VALUE, sum = 0;
+            for (double[] p : window) {
+                min = Math.min(min, p[1]);
+                max = Math.max(max, p[1]);
+                sum += p[1];
+            }
+            double mean = sum / n, ss = 0;
+            for (double[] p : window) ss += (p[1] - mean) * (p[1] - mean);
+            double sd = n > 1 ? Math.sqrt(ss / (n - 1)) : 0;
+            int back = Math.min(4, n - 1);
+            double rate = back > 0 ? (x - history.get(history.size() - 1 - back)[1]) / (back * DT) : 0;
+
+            RollingStats.Summary s = stats.getSummary();
+            String at = "sample " + i;
+            assertEquals(n, s.getCount(), at);
+            assertEquals(t, s.getTime(), 0.0, at);
+            assertEquals(x, s.getValue(), 0.0, at);
+            assertEquals(min, s.getMin(), 0.0, at);
+            assertEquals(max, s.getMax(), 0.0, at);
+            assertEquals(mean, s.getMean(), 1e-8, at);
+            assertEquals(sd, s.getStdDev(), 1e-6, at);
+            assertEquals(rate, s.getRate(), 1e-9, at);
+        }
+    }
+
+    @Test
+    void secondsUntilThreshold() {
+        RollingStats stats = new RollingStats(10.0, 2.0, DT);
+        for (int i = 1; i <= 30; i++) stats.add(i * DT, 100 + i);
+        RollingStats.Summary s = stats.getSummary();
+        // rising 2 per second from 130
+        assertEquals(2.0, s.getRate(), 1e-12);
+        assertEquals(5.0, s.secondsUntil(140.0), 1e-12);
+        assertEquals(0.0, s.secondsUntil(120.0), 0.0);
+
+        for (int i = 31; i <= 60; i++) stats.add(i * DT, 130);
+        assertEquals(Double.POSITIVE_INFINITY, stats.getSummary().secondsUntil(140.0), 0.0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunRecordingTest {
+    private final ReactorModel reactor = new ReactorModel(300.0, 2.0e7, 5.0e4, 500.0, 1.0e5);
+    private final CoolantModel coolant = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+    private final File file;
+
+    RunRecordingTest() throws IOException {
+        file = File.createTempFile("run", RunRecordingFormat.EXTENSION);
+    }
+
+    @AfterEach
+    void delete() {
+        file.delete();
+    }
+
+    @Test
+    void roundTripsAcrossBlocks() throws IOException {
+        // two full blocks and a partial one
+        int rows = 2 * RunRecordingFormat.ROWS_PER_BLOCK + 123;
+        try (RunRecordingWriter w = new RunRecordingWriter(file, 0.5, reactor, coolant)) {
+            for (int i = 0; i < rows; i++) w.append(i * 0.5, 300 + i, 290 + i * 0.5, 0.25, 200, 1e6 + i);
+        }
+        try (RunRecording rec = RunRecording.open(file)) {
+            assertEquals(rows, rec.size());
+            assertEquals(0.5, rec.getDt(), 0.0);
+            assertEquals(2.0e7, rec.getNominalPower(), 0.0);
+            assertEquals(0.0, rec.getStartTime(), 0.0);
+            assertEquals((rows - 1) * 0.5, rec.getEndTime(), 0.0);
+            for (int i = 0; i < rows; i += 97) {
+                assertEquals(i * 0.5, rec.get(TelemetryStore.TIME, i), 0.0);
+                assertEquals(300.0 + i, rec.get(TelemetryStore.CORE, i), 0.0);
+                assertEquals(290.0 + i * 0.5, rec.get(TelemetryStore.COOLANT, i), 0.0);
+                assertEquals(1e6 + i, rec.get(TelemetryStore.POWER, i), 0.0);
+            }
+            assertEquals(0, rec.indexOfTime(-1.0));
+            assertEquals(0, rec.indexOfTime(0.0));
+            assertEquals(4097, rec.indexOfTime(2048.25));
+            assertEquals(8192, rec.indexOfTime(4096.0));
+            assertEquals(rows, rec.indexOfTime(1e9));
+        }
+    }
+
+    @Test
+    void rowsMustNotGoBackInTime() throws IOException {
+        try (RunRecordingWriter w = new RunRecordingWriter(file, 0.5, reactor, coolant)) {
+            w.append(10.0, 300, 290, 0, 200, 0);
+            w.append(10.0, 300, 290, 0, 200, 0);
+            assertThrows(IllegalArgumentException.class, () -> w.append(0.5, 300, 290, 0, 200, 0));
+            assertEquals(2, w.getRows());
+        }
+    }
+
+    @Test
+    void controllerEndsTheRecordingOnReset() throws IOException {
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, 0.5);
+        SimulationController controller = new SimulationController(engine, reactor, coolant, null);
+        try {
+            controller.startRecording(file);
+            for (int i = 0; i < 10; i++) engine.advance();
+            controller.resetSimulation();
+            assertFalse(controller.isRecording());
+            for (int i = 0; i < 5; i++) engine.advance();
+            try (RunRecording rec = RunRecording.open(file)) {
+                assertEquals(10, rec.size());
+                assertEquals(5.0, rec.getEndTime(), 0.0);
+            }
+        } finally {
+            controller.shutdown();
+        }
+    }
+}
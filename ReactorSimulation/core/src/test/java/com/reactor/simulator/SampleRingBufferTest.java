@@ -0,0 +1,55 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SampleRingBufferTest {
+    private final List<Double> times = new ArrayList<>();
+    private final SimulationListener sink = new SimulationListener() {
+        @Override
+        public void onUpdate(double coreTemp, double coolantTemp) { }
+
+        @Override
+        public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+            times.add(simTime);
+        }
+    };
+
+    @Test
+    void drainsInOrder() {
+        SampleRingBuffer ring = new SampleRingBuffer(8);
+        for (int i = 0; i < 5; i++) ring.publish(i, 0, 0, 0, 0);
+        assertEquals(5, ring.drain(sink, 100));
+        assertEquals(List.of(0.0, 1.0, 2.0, 3.0, 4.0), times);
+        assertEquals(0, ring.getDropped());
+    }
+
+    @Test
+    void laggingConsumerStaysClearOfTheProducersNextSlots() {
+        SampleRingBuffer ring = new SampleRingBuffer(8);
+        for (int i = 0; i < 7; i++) ring.publish(i, 0, 0, 0, 0);
+        // seven behind: sample 8 overwrites sample 0's slot and may show there before sample 7 is
+        // released, so sample 0 is given up
+        assertEquals(6, ring.drain(sink, 100));
+        assertEquals(1.0, times.get(0), 0.0);
+        assertEquals(1, ring.getDropped());
+
+        times.clear();
+        for (int i = 7; i < 30; i++) ring.publish(i, 0, 0, 0, 0);
+        assertEquals(6, ring.drain(sink, 100));
+        assertEquals(List.of(24.0, 25.0, 26.0, 27.0, 28.0, 29.0), times);
+        assertEquals(18, ring.getDropped());
+    }
+
+    @Test
+    void tinyCapacityStillDelivers() {
+        SampleRingBuffer ring = new SampleRingBuffer(2);
+        for (int i = 0; i < 10; i++) ring.publish(i, 0, 0, 0, 0);
+        assertEquals(2, ring.drain(sink, 100));
+        assertEquals(List.of(8.0, 9.0), times);
+    }
+}
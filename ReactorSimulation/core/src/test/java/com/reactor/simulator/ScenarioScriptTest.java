@@ -0,0 +1,46 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScenarioScriptTest {
+    private static final String LOSS_OF_FLOW = String.join("\n",
+            "name loss-of-flow",
+            "dt 0.5",
+            "duration 1500",
+            "integrator RK4",
+            "set rod_position 0.0",
+            "at 0 critical 450",
+            "at 300 flow 0",
+            "expect scram by 1000",
+            "expect max core < 500",
+            "expect final core < 400");
+
+    private static ScenarioScript script() throws IOException {
+        return ScenarioScript.parse(new StringReader(LOSS_OF_FLOW), "test", "test");
+    }
+
+    @Test
+    void runsAndMeetsItsExpectations() throws IOException {
+        ScenarioResult result = script().run();
+        assertTrue(result.getFailures().isEmpty(), result.getFailures().toString());
+    }
+
+    @Test
+    void runAllocatesOnlyWhatTheScenarioNeeds() throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().threadId();
+        ScenarioScript script = script();
+        for (int i = 0; i < 20; i++) script.run(); // class loading and JIT
+        long before = threads.getThreadAllocatedBytes(id);
+        script.run();
+        long bytes = threads.getThreadAllocatedBytes(id) - before;
+        // a full real-time engine (feed, histograms, statistics) is over 700 KB
+        assertTrue(bytes < 128 * 1024, bytes + " bytes allocated");
+    }
+}
@@ -0,0 +1,82 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimTimerWheelTest {
+    private final ReactorModel reactor = new ReactorModel(300.0, 1.0e7, 5.0e4, 500.0, 1.0e5);
+    private final CoolantModel coolant = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+    private final SimTimerWheel wheel = new SimTimerWheel();
+    private final List<Long> firedAt = new ArrayList<>();
+    private long tick;
+
+    private void runTo(long end) {
+        for (; tick <= end; tick++) {
+            wheel.advance(tick, reactor, coolant);
+            wheel.runCallbacks();
+        }
+    }
+
+    // callbacks run within runTo, while tick is the tick that fired them
+    private void scheduleAt(long dueTick) {
+        wheel.schedule(dueTick, null, () -> firedAt.add(tick));
+    }
+
+    @Test
+    void firesOnItsTick() {
+        scheduleAt(3);
+        scheduleAt(600); // past one turn of the wheel
+        runTo(1000);
+        assertEquals(List.of(3L, 600L), firedAt);
+    }
+
+    @Test
+    void overdueEventFiresOnTheNextTick() {
+        runTo(10);
+        scheduleAt(2);
+        runTo(20);
+        assertEquals(List.of(11L), firedAt);
+    }
+
+    @Test
+    void linkedEventKeepsItsDelayAcrossATimeJump() {
+        runTo(4);
+        scheduleAt(8);
+        runTo(5); // linked now, 3 ticks to go
+        tick = 100;
+        runTo(200);
+        assertEquals(List.of(102L), firedAt);
+    }
+
+    @Test
+    void queuedEventKeepsItsDelayAcrossATimeJump() {
+        runTo(4);
+        scheduleAt(8); // still queued when time jumps
+        tick = 100;
+        runTo(200);
+        assertEquals(List.of(103L), firedAt);
+    }
+
+    @Test
+    void queuedEventMovesBackWithTime() {
+        runTo(500);
+        scheduleAt(510);
+        tick = 0;
+        runTo(100);
+        assertEquals(List.of(9L), firedAt);
+    }
+
+    @Test
+    void cancelledEventsDoNotFire() {
+        scheduleAt(5);
+        wheel.cancelAll();
+        scheduleAt(7);
+        runTo(20);
+        assertEquals(List.of(7L), firedAt);
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimulationControllerTest {
+    private final ReactorModel reactor = new ReactorModel(300.0, 2.0e7, 5.0e4, 500.0, 1.0e5);
+    private final CoolantModel coolant = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+    private final SimulationEngine engine = new SimulationEngine(reactor, coolant, 0.5);
+    private final SimulationController controller = new SimulationController(engine, reactor, coolant, null);
+
+    @AfterEach
+    void shutdown() {
+        controller.shutdown();
+    }
+
+    // ticks the stopped engine by hand, listeners included
+    private void run(int ticks) {
+        for (int i = 0; i < ticks; i++) engine.advance();
+    }
+
+    @Test
+    void resetClearsPendingScenarioEvents() {
+        controller.setFlowRate(150.0);
+        controller.triggerCoolantFailure(10.0);
+        run(5);
+        assertEquals(1, engine.getTimers().size());
+
+        controller.resetSimulation();
+        assertEquals(0, engine.getTimers().size());
+        run(40); // well past the old restore
+        assertEquals(200.0, engine.getState().getFlowRate(), 0.0);
+    }
+
+    @Test
+    void tripCancelsScenarioRestores() {
+        controller.setCriticalTemp(310.0);
+        controller.triggerReactivitySpike(1000.0, 0.0); // rods out, back in only after 1000 s
+        for (int i = 0; i < 200 && engine.getState().getControlRodPosition() < 1.0; i++) run(1);
+
+        assertEquals(1.0, engine.getState().getControlRodPosition(), 0.0);
+        // only the emergency injection's own restore is left
+        assertEquals(1, engine.getTimers().size());
+        assertEquals(ScheduledAction.Target.FLOW_RATE, engine.getTimers().pendingActions(0.5).get(0).getTarget());
+    }
+
+    @Test
+    void freshStartAfterTripRestoresInjectedFlow() {
+        controller.setFlowRate(180.0);
+        controller.setCriticalTemp(310.0);
+        controller.triggerReactivitySpike(1000.0, 0.0);
+        for (int i = 0; i < 200 && engine.getState().getControlRodPosition() < 1.0; i++) run(1);
+        assertEquals(1000.0, engine.getState().getFlowRate(), 0.0);
+
+        controller.setCriticalTemp(700.0); // so the hot core does not trip straight away again
+        controller.startSimulation();
+        controller.stopSimulation();
+        assertEquals(0, engine.getTimers().size());
+        assertEquals(180.0, engine.getState().getFlowRate(), 0.0);
+    }
+}
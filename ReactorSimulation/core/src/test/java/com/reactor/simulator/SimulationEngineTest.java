@@ -0,0 +1,109 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationEngineTest {
+    private final ReactorModel reactor = new ReactorModel(300.0, 2.0e7, 5.0e4, 500.0, 1.0e5);
+    private final CoolantModel coolant = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+
+    @Test
+    void restartNeverOverlapsTwoLoops() throws InterruptedException {
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, 0.001);
+        engine.setTimeScale(1000.0); // a tick every microsecond of wall time: always busy
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        double[] lastTime = {0.0};
+        AtomicInteger backwards = new AtomicInteger();
+        engine.addListener(new SimulationListener() {
+            @Override
+            public void onUpdate(double coreTemp, double coolantTemp) { }
+
+            @Override
+            public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+                if (inside.incrementAndGet() != 1) overlaps.incrementAndGet();
+                if (simTime <= lastTime[0]) backwards.incrementAndGet();
+                lastTime[0] = simTime;
+                Thread.onSpinWait();
+                inside.decrementAndGet();
+            }
+        });
+        for (int i = 0; i < 200; i++) {
+            engine.start();
+            Thread.sleep(0, 200_000);
+            engine.stop();
+        }
+        engine.stop();
+        assertEquals(0, overlaps.get());
+        assertEquals(0, backwards.get());
+        assertTrue(engine.getTick() > 0);
+    }
+
+    @Test
+    void commandFromListenerOfStoppedEngineLandsBeforeNextTick() {
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, 0.5);
+        engine.addListener(new SimulationListener() {
+            @Override
+            public void onUpdate(double coreTemp, double coolantTemp) { }
+
+            @Override
+            public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+                engine.setControlRodPosition(0.25);
+            }
+        });
+        engine.advance();
+        assertEquals(0.25, engine.getState().getControlRodPosition(), 0.0);
+    }
+
+    // what a 60 s headless run, engine included, allocates on this thread
+    private long headlessRunBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(id);
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, 0.5);
+        engine.setIntegrator(IntegratorType.RK4.create());
+        engine.runHeadless(60.0, null, 0);
+        return threads.getThreadAllocatedBytes(id) - before;
+    }
+
+    @Test
+    void headlessRunSkipsRealTimeInstruments() {
+        for (int i = 0; i < 20; i++) headlessRunBytes(); // class loading and JIT
+        long bytes = headlessRunBytes();
+        // EnsembleRunner and scenario runs build an engine per run
+        assertTrue(bytes < 64 * 1024, bytes + " bytes allocated");
+    }
+
+    @Test
+    void headlessPeakCoversUnrecordedSteps() {
+        // a hot core with the rods in only cools, so the peak is the initial state
+        ReactorModel hot = new ReactorModel(500.0, 2.0e7, 5.0e4, 500.0, 1.0e5);
+        hot.setControlRodPosition(1.0);
+        SimulationTrace trace = new SimulationEngine(hot, coolant, 0.5).runHeadless(60.0, null, 0);
+        assertEquals(1, trace.size());
+        assertTrue(trace.getFinalCoreTemp() < 500.0);
+        assertEquals(500.0, trace.getPeakCoreTemp(), 0.0);
+    }
+
+    @Test
+    void runAheadPeakCoversUnrecordedSteps() {
+        reactor.setControlRodPosition(0.3);
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, 0.5);
+        // heats until the rods go in at 100 s, then cools
+        SimulationSnapshot state = engine.getState().withActions(List.of(ScheduledAction.rodPosition(1.0, 100.0)));
+        SimulationTrace every = state.runAhead(400.0, null, 1);
+        double peak = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < every.size(); i++) peak = Math.max(peak, every.getCoreTemp(i));
+
+        SimulationTrace last = state.runAhead(400.0, null, 0);
+        assertTrue(last.getFinalCoreTemp() < peak);
+        assertEquals(peak, last.getPeakCoreTemp(), 0.0);
+        assertEquals(peak, every.getPeakCoreTemp(), 0.0);
+    }
+}
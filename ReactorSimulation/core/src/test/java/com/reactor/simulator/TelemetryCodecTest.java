@@ -0,0 +1,117 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TelemetryCodecTest {
+    private final ReactorModel reactor = new ReactorModel(300.0, 1.0e7, 5.0e4, 500.0, 1.0e5);
+    private final CoolantModel coolant = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
+    private final TelemetryCodec codec = new TelemetryCodec();
+    private final TelemetryCodec.Decoder decoder = new TelemetryCodec.Decoder();
+    private final byte[] frame = new byte[TelemetryCodec.MAX_FRAME];
+
+    private SimulationSnapshot state(long tick, long epoch, double core, double coolantTemp, double rod, double flow) {
+        return new SimulationSnapshot(tick, epoch, 0.5, IntegratorType.EULER, core, rod, coolantTemp, flow,
+                reactor, coolant, null);
+    }
+
+    // encodes, decodes and checks the decoder now holds the state; returns the frame length
+    private int roundTrip(SimulationSnapshot s, int status) {
+        int n = codec.encode(s, status, frame);
+        if (n > 0) decoder.decode(frame, 0, n);
+        assertEquals(s.getTick(), decoder.getTick());
+        assertEquals(s.getDt(), decoder.getDt(), 0.0);
+        assertEquals(s.getCoreTemp(), decoder.getCoreTemp(), 0.005);
+        assertEquals(s.getCoolantTemp(), decoder.getCoolantTemp(), 0.005);
+        assertEquals(s.getControlRodPosition(), decoder.getControlRodPosition(), 0.00005);
+        assertEquals(s.getFlowRate(), decoder.getFlowRate(), 0.005);
+        assertEquals(status, decoder.getStatus());
+        return n;
+    }
+
+    @Test
+    void keyFrameThenDeltas() {
+        int running = TelemetryCodec.status(true, null);
+        assertTrue(roundTrip(state(10, 0, 512.3456, 301.25, 0.75, 200.0), running) > 0);
+        assertEquals(TelemetryCodec.KEY_FRAME, frame[0]);
+
+        int n = roundTrip(state(12, 0, 513.0, 301.25, 0.75, 150.5), running);
+        assertEquals(TelemetryCodec.DELTA_FRAME, frame[0]);
+        assertTrue(n < 10, "delta of two fields took " + n + " bytes");
+
+        // the values went down: negative differences
+        roundTrip(state(13, 0, 499.99, 299.0, 0.0, 150.5), running);
+        assertEquals(TelemetryCodec.DELTA_FRAME, frame[0]);
+    }
+
+    @Test
+    void emptyDeltasAndUnchangedState() {
+        int stopped = TelemetryCodec.status(false, null);
+        roundTrip(state(0, 0, 300.0, 290.0, 1.0, 200.0), stopped);
+        // same tick, same values: nothing to send
+        assertEquals(0, roundTrip(state(0, 0, 300.0, 290.0, 1.0, 200.0), stopped));
+        // time moved but nothing else: the tick advance and an empty mask
+        assertEquals(3, roundTrip(state(5, 0, 300.001, 290.0, 1.0, 200.0), stopped));
+        assertEquals(TelemetryCodec.DELTA_FRAME, frame[0]);
+        assertEquals(0, frame[2]);
+    }
+
+    @Test
+    void statusChanges() {
+        roundTrip(state(0, 0, 300.0, 290.0, 1.0, 200.0), TelemetryCodec.status(false, null));
+        assertFalse(decoder.isRunning());
+        assertNull(decoder.getAlarmLevel());
+
+        int critical = TelemetryCodec.status(true, AlarmRule.Severity.CRITICAL);
+        assertEquals(4, roundTrip(state(0, 0, 300.0, 290.0, 1.0, 200.0), critical));
+        assertTrue(decoder.isRunning());
+        assertEquals(AlarmRule.Severity.CRITICAL, decoder.getAlarmLevel());
+
+        roundTrip(state(1, 0, 300.0, 290.0, 1.0, 200.0), TelemetryCodec.status(true, AlarmRule.Severity.CAUTION));
+        assertEquals(AlarmRule.Severity.CAUTION, decoder.getAlarmLevel());
+    }
+
+    @Test
+    void jumpInTimeSendsAKeyFrame() {
+        int running = TelemetryCodec.status(true, null);
+        roundTrip(state(100, 0, 400.0, 295.0, 0.5, 200.0), running);
+        // back in time
+        roundTrip(state(4, 1, 300.0, 290.0, 1.0, 200.0), running);
+        assertEquals(TelemetryCodec.KEY_FRAME, frame[0]);
+        // reset, then ran past the old tick before the next frame: only the epoch gives it away
+        roundTrip(state(40, 1, 350.0, 291.0, 0.9, 200.0), running);
+        roundTrip(state(90, 2, 310.0, 290.5, 1.0, 200.0), running);
+        assertEquals(TelemetryCodec.KEY_FRAME, frame[0]);
+    }
+
+    @Test
+    void engineResetBumpsTheEpoch() {
+        SimulationEngine engine = new SimulationEngine(reactor, coolant, 0.5);
+        engine.advance();
+        engine.advance();
+        SimulationSnapshot before = engine.getState();
+        engine.resetSimTime();
+        for (int i = 0; i < 5; i++) engine.advance();
+        SimulationSnapshot after = engine.getState();
+        assertTrue(after.getTick() > before.getTick());
+        assertTrue(after.getEpoch() != before.getEpoch());
+
+        int running = TelemetryCodec.status(true, null);
+        roundTrip(before, running);
+        roundTrip(after, running);
+        assertEquals(TelemetryCodec.KEY_FRAME, frame[0]);
+    }
+
+    @Test
+    void malformedFramesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(new byte[]{TelemetryCodec.DELTA_FRAME, 1, 0}, 0, 3));
+        int n = codec.encode(state(1, 0, 300.0, 290.0, 1.0, 200.0), 0, frame);
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(frame, 0, n - 1));
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(new byte[]{9}, 0, 1));
+    }
+}
@@ -0,0 +1,35 @@
+package com.reactor.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TelemetryStoreTest {
+
+    private static TelemetryStore filled(int chunkRows, int rows) {
+        TelemetryStore store = new TelemetryStore(false, chunkRows);
+        for (int i = 0; i < rows; i++) store.append(i * 0.5, 300 + i, 290 + i, 0.5, 100, 1e6);
+        return store;
+    }
+
+    @Test
+    void smallChunksReadAcrossBoundaries() {
+        TelemetryStore store = filled(5, 21);
+        assertEquals(21, store.size());
+        assertEquals(3L * TelemetryStore.COLUMNS * 8 * Double.BYTES, store.getCapacityBytes());
+        double[] core = new double[21];
+        assertEquals(21, store.read(TelemetryStore.CORE, 0, core, 0, 30));
+        double[] expected = new double[21];
+        for (int i = 0; i < 21; i++) expected[i] = 300 + i;
+        assertArrayEquals(expected, core, 0.0);
+        assertEquals(17, store.indexOfTime(8.25));
+        assertEquals(313.0, store.get(TelemetryStore.CORE, 13), 0.0);
+    }
+
+    @Test
+    void chunksAreReservedOnlyAsRowsArrive() {
+        assertEquals(0, filled(2048, 0).getCapacityBytes());
+        assertEquals(2048L * TelemetryStore.COLUMNS * Double.BYTES, filled(2048, 1).getCapacityBytes());
+    }
+}
@@ -1,5 +0,0 @@
-package com.reactor.simulator;
-
-public interface SimulationListener {
-    void onUpdate(double coreTemp, double coolantTemp);
-}
@@ -15,11 +15,10 @@ public final class AppContext {
         coolant = new CoolantModel(290.0, 1.0e4, 4184.0, 290.0, 1.0e5);
         engine = new SimulationEngine(reactor, coolant, 0.5);
         dashboard = new Dashboard(0.5);
-        controller = new SimulationController(engine, reactor, coolant, dashboard);
+        scenarios = new ScenarioManager(engine);
+        controller = new SimulationController(engine, reactor, coolant, dashboard, scenarios);
         dashboard.setContext(engine, reactor, coolant);
         dashboard.setController(controller);
-        engine.addListener(dashboard);
-        scenarios = new ScenarioManager(reactor, coolant);
     }
 
     public static synchronized AppContext get() {
@@ -0,0 +1,784 @@
+package com.reactor.simulator;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.*;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.stage.DirectoryChooser;
+import javafx.stage.FileChooser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Dashboard extends BorderPane implements SimulationListener, SimulationView {
+    // canvas plots with per-pixel min/max decimation; cost follows screen width, not sample count
+    private final TimeSeriesCanvas coreChart;
+    private final TimeSeriesCanvas coolantChart;
+
+    // samples live in primitive windows that the plots read when redrawn once per frame
+    private final TimeSeriesWindow coreWindow;
+    private final TimeSeriesWindow coolantWindow;
+
+    private final Label coreTempLabel = new Label("Core: -- °C");
+    private final Label coolantTempLabel = new Label("Coolant: -- °C");
+    private final Label timeLabel = new Label("t = 0.0 s");
+    public final Label statusLabel = new Label("");
+    private final Label powerLabel = new Label("Power: -- MW");
+    private final Label reactivityLabel = new Label("Reactivity: -- %");
+    private final Label flowLabelSmall = new Label("Flow: -- kg/s");
+    // rolling statistics from the engine, refreshed on frames that drained new samples
+    private final Label coreStatsLabel = new Label("--");
+    private final Label coolantStatsLabel = new Label("--");
+    private final Label coreRateLabel = new Label("--");
+    private final Label cautionEtaLabel = new Label("--");
+    private final Label criticalEtaLabel = new Label("--");
+
+    private final Label rodValueLabel = new Label("Rod: --");
+    private final Label flowValueLabel = new Label("Flow: -- kg/s");
+
+    private final Slider rodSlider = new Slider(0.0, 1.0, 1.0);
+    private final Slider flowSlider = new Slider(0.0, 1000.0, 200.0);
+
+    private final Button startBtn = new Button("Start");
+    private final Button stopBtn = new Button("Stop");
+    private final Button resetBtn = new Button("Reset");
+    private final Button saveCsvBtn = new Button("Save CSV");
+    private final ToggleButton streamCsvBtn = new ToggleButton("Stream CSV");
+    private final ToggleButton recordBtn = new ToggleButton("Record");
+    private final Button replayBtn = new Button("Replay...");
+    private final Button scenariosBtn = new Button("Scenarios");
+    private final ToggleButton metricsBtn = new ToggleButton("Metrics");
+    private final ComboBox<Double> timeScaleBox = new ComboBox<>();
+    private final Button scramBtn = new Button("SCRAM");
+    private final Button emCoolantBtn = new Button("Emergency Coolant");
+    private final Button ackAlarmsBtn = new Button("Ack Alarms");
+
+    private SimulationEngine engine;
+    private ReactorModel reactor;
+    private CoolantModel coolant;
+    private SimulationController controller;
+    private EventLog eventLog;
+
+    // expose logView as a field so we can bind it later
+    private final ListView<String> logView = new ListView<>();
+    private static final int LOG_VIEW_LINES = 1000;
+    private final ObservableList<String> logLines = FXCollections.observableArrayList();
+    private final List<String> logBatch = new ArrayList<>();
+    private long logCursor = 0;
+
+    private double time = 0.0;
+    private double lastCoreTemp = Double.NaN;
+    private double lastCoolantTemp = Double.NaN;
+    private double lastRod = Double.NaN;
+    private double lastFlow = Double.NaN;
+    // slider edits go to the engine's command queue and take effect at the next tick; until the engine
+    // has ticked past an edit the slider is not synced back, so it does not jump to the old value
+    private long rodEditTick = -1;
+    private long flowEditTick = -1;
+    private boolean syncingSliders = false;
+    private final double chartWindowSeconds = 120.0;
+    private final double dtSeconds;
+
+    // engine samples are drained once per rendered frame rather than posted per tick
+    private SampleRingBuffer feed;
+    // replay controls, shown above the charts while a recorded run is playing
+    private final VBox topArea = new VBox();
+    private ReplayEngine replay;
+    private HBox replayBar;
+    private final ToggleButton replayPauseBtn = new ToggleButton("Pause");
+    private final ComboBox<Double> replaySpeed = new ComboBox<>();
+    private final Slider replaySeek = new Slider(0.0, 1.0, 0.0);
+    private final Label replayTimeLabel = new Label();
+
+    // engine timing overlay, refreshed once a second from the interval since the previous refresh
+    private final Label metricsOverlay = new Label();
+    private long lastMetricsNanos = 0;
+    private LogHistogram.Snapshot[] lastMetrics;
+    private long lastDropped = 0;
+
+    // checkpoint taken from the scenarios dialog
+    private SimulationSnapshot checkpoint;
+
+    private final AnimationTimer frameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            long start = System.nanoTime();
+            if (drainFeed() > 0 && engine != null) {
+                updateStatsLabels();
+                engine.getMetrics().recordFrame(System.nanoTime() - start);
+            }
+            drainLog();
+            if (metricsOverlay.isVisible() && now - lastMetricsNanos >= 1_000_000_000L) {
+                lastMetricsNanos = now;
+                updateMetricsOverlay();
+            }
+        }
+    };
+
+    public Dashboard(double dtSeconds) {
+        this.dtSeconds = dtSeconds;
+        int windowCapacity = (int) Math.ceil(chartWindowSeconds / dtSeconds) + 2;
+        coreWindow = new TimeSeriesWindow(chartWindowSeconds, windowCapacity);
+        coolantWindow = new TimeSeriesWindow(chartWindowSeconds, windowCapacity);
+        setPadding(new Insets(10));
+        coreChart = new TimeSeriesCanvas("Core Temperature (°C)", "Core Temperature (°C)", chartWindowSeconds);
+        coolantChart = new TimeSeriesCanvas("Coolant Temperature (°C)", "Coolant Temperature (°C)", chartWindowSeconds);
+        coreChart.addSeries(coreWindow, "Core", Color.FIREBRICK);
+        coolantChart.addSeries(coolantWindow, "Coolant", Color.STEELBLUE);
+
+        // threshold overlays read the controller's live values at each redraw
+        coreChart.addThreshold(() -> controller != null ? controller.getCautionTemp() : 500.0, "Caution", Color.DARKORANGE);
+        coreChart.addThreshold(() -> controller != null ? controller.getCriticalTemp() : 700.0, "Critical", Color.RED);
+
+        Node top = buildTopBar();
+        Node center = buildCenter();
+        Node bottom = buildControlsWithLog();
+
+        topArea.getChildren().add(top);
+        setTop(topArea);
+        setCenter(center);
+        setBottom(bottom);
+
+        rodSlider.setShowTickMarks(true);
+        rodSlider.setMajorTickUnit(0.5);
+        rodSlider.setBlockIncrement(0.01);
+        flowSlider.setBlockIncrement(1);
+    }
+
+    public double getDtSeconds() { return dtSeconds; }
+
+    public void setContext(SimulationEngine engine, ReactorModel reactor, CoolantModel coolant) {
+        this.engine = engine;
+        this.reactor = reactor;
+        this.coolant = coolant;
+        attachFeed(engine.getFeed());
+
+        SimulationSnapshot state = engine.getState();
+        rodSlider.setValue(state.getControlRodPosition());
+        flowSlider.setValue(state.getFlowRate());
+
+        updateRodValueLabel(rodSlider.getValue());
+        updateFlowValueLabel(flowSlider.getValue());
+        updateStatusLabels();
+
+        rodSlider.valueProperty().addListener((obs, oldV, newV) -> {
+            double v = newV.doubleValue();
+            if (!syncingSliders) {
+                engine.setControlRodPosition(v);
+                rodEditTick = engine.getTick();
+            }
+            updateRodValueLabel(v);
+            updateStatusLabels();
+        });
+
+        flowSlider.valueProperty().addListener((obs, oldV, newV) -> {
+            double v = newV.doubleValue();
+            if (!syncingSliders) {
+                engine.setFlowRate(v);
+                flowEditTick = engine.getTick();
+            }
+            updateFlowValueLabel(v);
+            updateStatusLabels();
+        });
+    }
+
+    /** Switches the charts to another sample feed and starts draining it every frame. */
+    public void attachFeed(SampleRingBuffer feed) {
+        this.feed = feed;
+        if (feed != null) {
+            feed.skipToLatest();
+            frameTimer.start();
+        } else {
+            frameTimer.stop();
+        }
+    }
+
+    private int drainFeed() {
+        if (feed == null) return 0;
+        int n = feed.drain(this, feed.capacity());
+        if (n > 0) refreshAfterSamples();
+        return n;
+    }
+
+    // one list update per frame however many entries arrived; the view keeps the latest LOG_VIEW_LINES
+    private void drainLog() {
+        if (eventLog == null) return;
+        logBatch.clear();
+        logCursor = eventLog.drainSince(logCursor, LOG_VIEW_LINES, logBatch);
+        if (logBatch.isEmpty()) return;
+        int excess = logLines.size() + logBatch.size() - LOG_VIEW_LINES;
+        if (excess > 0) logLines.remove(0, Math.min(excess, logLines.size()));
+        logLines.addAll(logBatch);
+    }
+
+    private void updateMetricsOverlay() {
+        if (engine == null) return;
+        EngineMetrics m = engine.getMetrics();
+        LogHistogram.Snapshot[] now = {
+                m.getComputeHistogram().snapshot(), m.getDispatchHistogram().snapshot(),
+                m.getOvershootHistogram().snapshot(), m.getJitterHistogram().snapshot(),
+                m.getRenderHistogram().snapshot(), m.getBacklogHistogram().snapshot()
+        };
+        long dropped = feed != null ? feed.getDropped() : 0;
+        if (lastMetrics != null) {
+            StringBuilder sb = new StringBuilder();
+            String[] names = {"physics ", "dispatch", "wake +  ", "late    ", "render  "};
+            for (int i = 0; i < names.length; i++) {
+                LogHistogram.Snapshot d = now[i].minus(lastMetrics[i]);
+                sb.append(String.format("%s p50 %s  p99 %s  max %s%n", names[i],
+                        nanos(d.percentile(50)), nanos(d.percentile(99)), nanos(d.getMax())));
+            }
+            LogHistogram.Snapshot b = now[5].minus(lastMetrics[5]);
+            sb.append(String.format("UI backlog p99 %d  max %d  dropped %d", b.percentile(99), b.getMax(), dropped - lastDropped));
+            metricsOverlay.setText(sb.toString());
+        }
+        lastMetrics = now;
+        lastDropped = dropped;
+    }
+
+    private static String nanos(long ns) {
+        if (ns < 1_000) return ns + "ns";
+        if (ns < 1_000_000) return String.format("%.1fµs", ns / 1e3);
+        return String.format("%.2fms", ns / 1e6);
+    }
+
+    public void setController(SimulationController controller) {
+        this.controller = controller;
+        this.eventLog = controller.getEventLog();
+
+        startBtn.setOnAction(e -> {
+            controller.startSimulation();
+            statusLabel.setText("Running");
+        });
+        stopBtn.setOnAction(e -> {
+            controller.stopSimulation();
+            statusLabel.setText("Stopped");
+        });
+        resetBtn.setOnAction(e -> {
+            controller.resetSimulation();
+            resetSimulation();
+            statusLabel.setText("Reset");
+        });
+        saveCsvBtn.setOnAction(e -> exportCsvWithDialog());
+        streamCsvBtn.setOnAction(e -> {
+            toggleCsvStreamWithDialog();
+            streamCsvBtn.setSelected(controller.isCsvStreaming());
+        });
+        recordBtn.setOnAction(e -> {
+            toggleRecordingWithDialog();
+            recordBtn.setSelected(controller.isRecording());
+        });
+        replayBtn.setOnAction(e -> openReplayDialog());
+        scenariosBtn.setOnAction(e -> openScenariosDialog());
+        timeScaleBox.getItems().addAll(0.5, 1.0, 2.0, 5.0, 10.0);
+        timeScaleBox.setValue(engine != null ? engine.getTimeScale() : 1.0);
+        timeScaleBox.setOnAction(e -> {
+            Double v = timeScaleBox.getValue();
+            if (v != null) controller.setTimeScale(v);
+        });
+        metricsBtn.setOnAction(e -> {
+            metricsOverlay.setVisible(metricsBtn.isSelected());
+            lastMetrics = null;
+            lastMetricsNanos = 0;
+            metricsOverlay.setText("collecting...");
+        });
+        scramBtn.setOnAction(e -> {
+            controller.scram();
+            statusLabel.setText("SCRAMMED");
+        });
+        emCoolantBtn.setOnAction(e -> {
+            controller.emergencyInject(controller.getEmergencyInjectionDurationSec(), controller.getEmergencyInjectionFlow());
+            statusLabel.setText("Emergency coolant injected");
+        });
+        ackAlarmsBtn.setOnAction(e -> controller.acknowledgeAlarms());
+
+        // the log view pulls new entries from the controller's event log every frame
+        logCursor = 0;
+        logLines.clear();
+    }
+
+    private Node buildTopBar() {
+        HBox info = new HBox(12, coreTempLabel, new Separator(), coolantTempLabel, new Separator(), timeLabel, new Separator(), statusLabel);
+        info.setAlignment(Pos.CENTER_LEFT);
+        info.setPadding(new Insets(6));
+        return info;
+    }
+
+    private Node buildCenter() {
+        VBox vbox = new VBox(8);
+        vbox.getChildren().addAll(coreChart, coolantChart);
+        VBox.setVgrow(coreChart, Priority.ALWAYS);
+        VBox.setVgrow(coolantChart, Priority.ALWAYS);
+        vbox.setPadding(new Insets(8));
+
+        metricsOverlay.setVisible(false);
+        metricsOverlay.setMouseTransparent(true);
+        metricsOverlay.setStyle("-fx-font-family: monospace; -fx-background-color: rgba(255,255,255,0.85); -fx-padding: 6;");
+        StackPane.setAlignment(metricsOverlay, Pos.TOP_RIGHT);
+        return new StackPane(vbox, metricsOverlay);
+    }
+
+    private Node buildControlsWithLog() {
+        // left: controls
+        Label rodLabel = new Label("Control Rod (0=withdrawn,1=inserted)");
+        Label flowLabel = new Label("Coolant Flow (kg/s)");
+
+        HBox rodControl = new HBox(8, rodSlider, rodValueLabel);
+        rodControl.setAlignment(Pos.CENTER_LEFT);
+
+        HBox flowControl = new HBox(8, flowSlider, flowValueLabel);
+        flowControl.setAlignment(Pos.CENTER_LEFT);
+
+        HBox sliders = new HBox(24,
+                new VBox(4, rodLabel, rodControl),
+                new VBox(4, flowLabel, flowControl)
+        );
+        sliders.setAlignment(Pos.CENTER_LEFT);
+
+        HBox leftButtons = new HBox(8, new Label("Speed x"), timeScaleBox, startBtn, stopBtn, resetBtn, saveCsvBtn, streamCsvBtn, recordBtn, replayBtn, scenariosBtn, metricsBtn);
+        leftButtons.setAlignment(Pos.CENTER_LEFT);
+
+        HBox rightButtons = new HBox(8, scramBtn, emCoolantBtn, ackAlarmsBtn);
+        rightButtons.setAlignment(Pos.CENTER_LEFT);
+
+        VBox controls = new VBox(10, sliders, leftButtons, rightButtons);
+        controls.setPadding(new Insets(10));
+
+        // right: status + event log
+        GridPane statusGrid = new GridPane();
+        statusGrid.setHgap(8); statusGrid.setVgap(6);
+        statusGrid.add(new Label("Power"), 0, 0); statusGrid.add(powerLabel, 1, 0);
+        statusGrid.add(new Label("Reactivity"), 0, 1); statusGrid.add(reactivityLabel, 1, 1);
+        statusGrid.add(new Label("Flow"), 0, 2); statusGrid.add(flowLabelSmall, 1, 2);
+        statusGrid.add(new Label("Status"), 0, 3); statusGrid.add(statusLabel, 1, 3);
+        statusGrid.add(new Label("Core (60 s)"), 0, 4); statusGrid.add(coreStatsLabel, 1, 4);
+        statusGrid.add(new Label("Coolant (60 s)"), 0, 5); statusGrid.add(coolantStatsLabel, 1, 5);
+        statusGrid.add(new Label("Core dT/dt"), 0, 6); statusGrid.add(coreRateLabel, 1, 6);
+        statusGrid.add(new Label("To caution"), 0, 7); statusGrid.add(cautionEtaLabel, 1, 7);
+        statusGrid.add(new Label("To critical"), 0, 8); statusGrid.add(criticalEtaLabel, 1, 8);
+
+        logView.setPrefHeight(120);
+        logView.setItems(logLines);
+
+        VBox rightBox = new VBox(6, statusGrid, new Label("Event Log"), logView);
+        rightBox.setPadding(new Insets(10));
+        rightBox.setPrefWidth(420);
+
+        HBox bottom = new HBox(12, controls, rightBox);
+        HBox.setHgrow(rightBox, Priority.ALWAYS);
+        return bottom;
+    }
+
+    public void resetSimulation() {
+        time = 0.0;
+        if (feed != null) feed.skipToLatest();
+        coreWindow.clear();
+        coolantWindow.clear();
+        coreChart.redraw();
+        coolantChart.redraw();
+        coreTempLabel.setText("Core: -- °C");
+        coolantTempLabel.setText("Coolant: -- °C");
+        timeLabel.setText("t = 0.0 s");
+        statusLabel.setText("");
+        powerLabel.setText("Power: -- MW");
+        reactivityLabel.setText("Reactivity: -- %");
+        flowLabelSmall.setText("Flow: -- kg/s");
+        if (engine != null) {
+            engine.setControlRodPosition(1.0);
+            engine.setFlowRate(200.0);
+        }
+        syncingSliders = true;
+        rodSlider.setValue(1.0);
+        flowSlider.setValue(200.0);
+        syncingSliders = false;
+        rodEditTick = -1;
+        flowEditTick = -1;
+        updateRodValueLabel(rodSlider.getValue());
+        updateFlowValueLabel(flowSlider.getValue());
+    }
+
+    // FX thread only: a single sample pushed directly rather than through the feed
+    @Override
+    public void onUpdate(double coreTemp, double coolantTemp) {
+        SimulationSnapshot state = engine != null ? engine.getState() : null;
+        onSample(time + dtSeconds, coreTemp, coolantTemp,
+                state != null ? state.getControlRodPosition() : 1.0,
+                state != null ? state.getFlowRate() : 0.0);
+        refreshAfterSamples();
+    }
+
+    @Override
+    public void onSample(double simTime, double coreTemp, double coolantTemp, double rodPosition, double flowRate) {
+        // time only runs backwards after a replay seek; the windows expect increasing times
+        if (simTime < time) {
+            coreWindow.clear();
+            coolantWindow.clear();
+        }
+        time = simTime;
+        lastRod = rodPosition;
+        lastFlow = flowRate;
+        lastCoreTemp = coreTemp;
+        lastCoolantTemp = coolantTemp;
+        coreWindow.add(time, coreTemp);
+        coolantWindow.add(time, coolantTemp);
+    }
+
+    // labels, plots and sliders only need refreshing once per batch of samples
+    private void refreshAfterSamples() {
+        coreTempLabel.setText(String.format("Core: %.2f °C", lastCoreTemp));
+        coolantTempLabel.setText(String.format("Coolant: %.2f °C", lastCoolantTemp));
+        timeLabel.setText(String.format("t = %.1f s", time));
+        coreChart.redraw();
+        coolantChart.redraw();
+
+        if (replay != null) {
+            // the sliders drive the live model, so during replay only the labels follow the recording
+            if (!Double.isNaN(lastRod)) updateRodValueLabel(lastRod);
+            if (!Double.isNaN(lastFlow)) updateFlowValueLabel(lastFlow);
+            if (!replaySeek.isValueChanging()) replaySeek.setValue(time);
+            replayTimeLabel.setText(String.format("%.1f / %.1f s", time, replay.getEndTime()));
+            return;
+        }
+
+        // keep UI sliders/labels in sync with the engine's published state (ensures immediate feedback after controller actions)
+        if (engine != null) {
+            SimulationSnapshot state = engine.getState();
+            syncingSliders = true;
+            double rodPos = state.getControlRodPosition();
+            // only set if different, and not while a slider edit is still queued, to avoid fighting a user drag
+            if (state.getTick() > rodEditTick && Math.abs(rodSlider.getValue() - rodPos) > 1e-6) {
+                rodSlider.setValue(rodPos);
+                updateRodValueLabel(rodPos);
+            }
+            double flow = state.getFlowRate();
+            if (state.getTick() > flowEditTick && Math.abs(flowSlider.getValue() - flow) > 1e-6) {
+                flowSlider.setValue(flow);
+                updateFlowValueLabel(flow);
+            }
+            syncingSliders = false;
+        }
+
+        updateStatusLabels();
+    }
+
+    // methods controller can call to immediately update UI
+    @Override
+    public void onSimulationReset() {
+        Platform.runLater(this::resetSimulation);
+    }
+
+    @Override
+    public void setRodSliderValue(double v) {
+        Platform.runLater(() -> {
+            rodSlider.setValue(v);
+            updateRodValueLabel(v);
+            updateStatusLabels();
+        });
+    }
+
+    @Override
+    public void setFlowSliderValue(double v) {
+        Platform.runLater(() -> {
+            flowSlider.setValue(v);
+            updateFlowValueLabel(v);
+            updateStatusLabels();
+        });
+    }
+
+    @Override
+    public void setStatusText(String t) {
+        Platform.runLater(() -> statusLabel.setText(t));
+    }
+
+    private void updateRodValueLabel(double rodValue) {
+        double withdrawnPct = Math.round((1.0 - rodValue) * 100.0);
+        rodValueLabel.setText(String.format("Rod: %.3f  (withdrawn %.0f%%)", rodValue, withdrawnPct));
+        reactivityLabel.setText(String.format("%.0f %%", (1.0 - rodValue) * 100.0));
+    }
+
+    private void updateFlowValueLabel(double flow) {
+        flowValueLabel.setText(String.format("Flow: %.1f kg/s", flow));
+        flowLabelSmall.setText(String.format("%.1f kg/s", flow));
+    }
+
+    public void updateStatusLabels() {
+        if (engine == null) return;
+        SimulationSnapshot state = engine.getState();
+        double powerW = reactor.getNominalPower() * (1.0 - state.getControlRodPosition());
+        powerLabel.setText(String.format("%.3f MW", powerW / 1e6));
+        flowLabelSmall.setText(String.format("%.1f kg/s", state.getFlowRate()));
+    }
+
+    private void updateStatsLabels() {
+        // the engine's statistics describe the live run, not a replay
+        RollingStats.Summary core = replay == null ? engine.getCoreStats().getSummary() : null;
+        RollingStats.Summary cool = replay == null ? engine.getCoolantStats().getSummary() : null;
+        if (core == null || cool == null) {
+            coreStatsLabel.setText("--");
+            coolantStatsLabel.setText("--");
+            coreRateLabel.setText("--");
+            cautionEtaLabel.setText("--");
+            criticalEtaLabel.setText("--");
+            return;
+        }
+        coreStatsLabel.setText(formatStats(core));
+        coolantStatsLabel.setText(formatStats(cool));
+        coreRateLabel.setText(String.format("%+.2f °C/s", core.getRate()));
+        cautionEtaLabel.setText(formatEta(core.secondsUntil(controller != null ? controller.getCautionTemp() : 500.0)));
+        criticalEtaLabel.setText(formatEta(core.secondsUntil(controller != null ? controller.getCriticalTemp() : 700.0)));
+    }
+
+    private static String formatStats(RollingStats.Summary s) {
+        return String.format("min %.1f  max %.1f  mean %.1f  sd %.2f", s.getMin(), s.getMax(), s.getMean(), s.getStdDev());
+    }
+
+    // simulated seconds, by linear extrapolation of the current rate
+    private static String formatEta(double seconds) {
+        if (seconds == 0.0) return "reached";
+        if (Double.isInfinite(seconds)) return "not rising";
+        return String.format("%.0f s", seconds);
+    }
+
+    private void exportCsvWithDialog() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Save Simulation CSV");
+        chooser.setInitialFileName("reactor_sim_" + System.currentTimeMillis() + ".csv");
+        File out = chooser.showSaveDialog(getScene() != null ? getScene().getWindow() : null);
+        if (out == null) return;
+        try {
+            controller.exportCsvTo(out);
+        } catch (IOException ex) {
+            statusLabel.setText("Export failed: " + ex.getMessage());
+        }
+    }
+
+    // starts a stream (hourly files, 256 MB cap per file) or stops the running one
+    private void toggleCsvStreamWithDialog() {
+        if (controller.isCsvStreaming()) {
+            controller.stopCsvStream();
+            return;
+        }
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Stream Simulation CSV");
+        chooser.setInitialFileName("reactor_stream_" + System.currentTimeMillis() + ".csv.gz");
+        File out = chooser.showSaveDialog(getScene() != null ? getScene().getWindow() : null);
+        if (out == null) return;
+        controller.startCsvStream(out, 256L << 20, 3600.0);
+    }
+
+    private void toggleRecordingWithDialog() {
+        if (controller.isRecording()) {
+            controller.stopRecording();
+            return;
+        }
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Record Simulation Run");
+        chooser.setInitialFileName("reactor_run_" + System.currentTimeMillis() + RunRecordingFormat.EXTENSION);
+        File out = chooser.showSaveDialog(getScene() != null ? getScene().getWindow() : null);
+        if (out == null) return;
+        try {
+            controller.startRecording(out);
+        } catch (IOException ex) {
+            controller.getEventLog().append("Recording failed: " + ex.getMessage());
+        }
+    }
+
+    private void openReplayDialog() {
+        if (controller == null) return;
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Replay Recorded Run");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Run recordings and CSV", "*" + RunRecordingFormat.EXTENSION, "*.csv", "*.csv.gz"),
+                new FileChooser.ExtensionFilter("All files", "*.*"));
+        File file = chooser.showOpenDialog(getScene() != null ? getScene().getWindow() : null);
+        if (file == null) return;
+        try {
+            startReplay(controller.openReplay(file));
+        } catch (IOException | RuntimeException ex) {
+            statusLabel.setText("Replay failed: " + ex.getMessage());
+        }
+    }
+
+    private void startReplay(ReplayEngine r) {
+        replay = r;
+        if (replayBar == null) replayBar = buildReplayBar();
+        replayPauseBtn.setSelected(false);
+        replaySpeed.setValue(r.getSpeed());
+        replaySeek.setMin(r.getStartTime());
+        replaySeek.setMax(Math.max(r.getStartTime() + dtSeconds, r.getEndTime()));
+        replaySeek.setValue(r.getStartTime());
+        if (!topArea.getChildren().contains(replayBar)) topArea.getChildren().add(replayBar);
+        startBtn.setDisable(true);
+
+        time = Double.NEGATIVE_INFINITY;
+        coreWindow.clear();
+        coolantWindow.clear();
+        attachFeed(r.getFeed());
+        r.start();
+        statusLabel.setText("Replay");
+    }
+
+    private void stopReplay() {
+        if (replay == null) return;
+        replay = null;
+        if (controller != null) controller.closeReplay();
+        topArea.getChildren().remove(replayBar);
+        startBtn.setDisable(false);
+        if (engine != null) attachFeed(engine.getFeed());
+        resetSimulation();
+    }
+
+    private HBox buildReplayBar() {
+        replaySpeed.getItems().addAll(0.1, 0.25, 0.5, 1.0, 2.0, 5.0, 10.0, 50.0, 100.0, 500.0, 1000.0);
+        replaySpeed.setOnAction(e -> {
+            Double v = replaySpeed.getValue();
+            if (replay != null && v != null) replay.setSpeed(v);
+        });
+        replayPauseBtn.setOnAction(e -> {
+            if (replay != null) replay.setPaused(replayPauseBtn.isSelected());
+        });
+        // seek once the user lets go of the thumb or clicks the track
+        replaySeek.valueChangingProperty().addListener((obs, was, changing) -> {
+            if (!changing && replay != null) replay.seek(replaySeek.getValue());
+        });
+        replaySeek.setOnMouseReleased(e -> {
+            if (replay != null) replay.seek(replaySeek.getValue());
+        });
+        Button closeBtn = new Button("Close Replay");
+        closeBtn.setOnAction(e -> stopReplay());
+
+        HBox.setHgrow(replaySeek, Priority.ALWAYS);
+        HBox bar = new HBox(8, new Label("Replay"), replayPauseBtn, new Label("Speed (x)"), replaySpeed,
+                replaySeek, replayTimeLabel, closeBtn);
+        bar.setAlignment(Pos.CENTER_LEFT);
+        bar.setPadding(new Insets(0, 6, 6, 6));
+        return bar;
+    }
+
+    private void openScenariosDialog() {
+        if (controller == null) return;
+
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Scenarios");
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.CLOSE);
+
+        GridPane grid = new GridPane();
+        grid.setHgap(8); grid.setVgap(8); grid.setPadding(new Insets(10));
+
+        Label spikeLabel = new Label("Reactivity Spike (withdraw rods)");
+        TextField spikeDuration = new TextField("10");
+        TextField spikeRodPos = new TextField("0");
+
+        Label coolantLabel = new Label("Coolant Failure (cut flow)");
+        TextField coolantDuration = new TextField("8");
+
+        grid.add(spikeLabel, 0, 0);
+        grid.add(new Label("Duration (s):"), 0, 1);
+        grid.add(spikeDuration, 1, 1);
+        grid.add(new Label("Rod pos (0..1):"), 0, 2);
+        grid.add(spikeRodPos, 1, 2);
+
+        grid.add(new Separator(), 0, 3, 2, 1);
+
+        grid.add(coolantLabel, 0, 4);
+        grid.add(new Label("Duration (s):"), 0, 5);
+        grid.add(coolantDuration, 1, 5);
+
+        Button runSpike = new Button("Run Reactivity Spike");
+        Button runCoolant = new Button("Run Coolant Failure");
+
+        HBox actions = new HBox(8, runSpike, runCoolant);
+        actions.setAlignment(Pos.CENTER_LEFT);
+        grid.add(actions, 0, 6, 2, 1);
+
+        runSpike.setOnAction(e -> {
+            try {
+                double dur = Double.parseDouble(spikeDuration.getText());
+                double rod = Double.parseDouble(spikeRodPos.getText());
+                controller.triggerReactivitySpike(dur, rod);
+                statusLabel.setText(String.format("Reactivity spike: %.1fs, rod=%.2f", dur, rod));
+            } catch (NumberFormatException ex) {
+                statusLabel.setText("Invalid spike inputs");
+            }
+        });
+
+        runCoolant.setOnAction(e -> {
+            try {
+                double dur = Double.parseDouble(coolantDuration.getText());
+                controller.triggerCoolantFailure(dur);
+                statusLabel.setText(String.format("Coolant failure: %.1fs", dur));
+            } catch (NumberFormatException ex) {
+                statusLabel.setText("Invalid coolant input");
+            }
+        });
+
+        grid.add(new Separator(), 0, 7, 2, 1);
+
+        // what-if: both branches run on copies of the current state, the live run is untouched
+        grid.add(new Label("What-if: SCRAM now vs later"), 0, 8);
+        TextField scramDelay = new TextField("30");
+        TextField horizon = new TextField("300");
+        grid.add(new Label("Delay (s):"), 0, 9);
+        grid.add(scramDelay, 1, 9);
+        grid.add(new Label("Horizon (s):"), 0, 10);
+        grid.add(horizon, 1, 10);
+        Button compare = new Button("Compare");
+        Label compareResult = new Label();
+        grid.add(new HBox(8, compare, compareResult), 0, 11, 2, 1);
+
+        Button saveCheckpoint = new Button("Save Checkpoint");
+        Button restoreCheckpoint = new Button("Restore Checkpoint");
+        Label checkpointLabel = new Label(checkpoint == null ? "No checkpoint" : String.format("Checkpoint at t=%.1fs", checkpoint.getSimTime()));
+        grid.add(new HBox(8, saveCheckpoint, restoreCheckpoint, checkpointLabel), 0, 12, 2, 1);
+
+        grid.add(new Separator(), 0, 13, 2, 1);
+        Button runSuite = new Button("Run Scenario Suite...");
+        Label suiteResult = new Label();
+        grid.add(new HBox(8, runSuite, suiteResult), 0, 14, 2, 1);
+
+        compare.setOnAction(e -> {
+            try {
+                double delay = Double.parseDouble(scramDelay.getText());
+                double h = Double.parseDouble(horizon.getText());
+                long startNanos = System.nanoTime();
+                controller.compareScramTiming(delay, h).thenAccept(peaks -> Platform.runLater(() ->
+                        compareResult.setText(String.format("peak core: now %.1f °C, +%.0fs %.1f °C (%.1f ms)",
+                                peaks[0], delay, peaks[1], (System.nanoTime() - startNanos) / 1e6))));
+            } catch (NumberFormatException ex) {
+                compareResult.setText("Invalid what-if inputs");
+            }
+        });
+        saveCheckpoint.setOnAction(e -> {
+            checkpoint = controller.snapshot();
+            checkpointLabel.setText(String.format("Checkpoint at t=%.1fs", checkpoint.getSimTime()));
+        });
+        restoreCheckpoint.setOnAction(e -> {
+            if (checkpoint != null) controller.restore(checkpoint);
+        });
+        runSuite.setOnAction(e -> {
+            DirectoryChooser chooser = new DirectoryChooser();
+            chooser.setTitle("Scenario directory (*" + ScenarioSuite.EXTENSION + ")");
+            File dir = chooser.showDialog(getScene() != null ? getScene().getWindow() : null);
+            if (dir == null) return;
+            suiteResult.setText("Running...");
+            controller.runScenarioSuite(dir).whenComplete((report, ex) -> Platform.runLater(() ->
+                    suiteResult.setText(ex == null ? report.getSummary() : "Failed: " + ex.getCause().getMessage())));
+        });
+
+        dialog.getDialogPane().setContent(grid);
+        dialog.showAndWait();
+    }
+}
@@ -4,7 +4,13 @@ import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
 public class Main extends Application {
+    private TelemetryServer telemetryServer;
 
     @Override
     public void start(Stage primaryStage) {
@@ -42,6 +48,8 @@ public class Main extends Application {
 
         // Engine
         SimulationEngine engine = new SimulationEngine(reactor, coolant, dt);
+        // tick/dispatch/render timings, visible in JConsole under com.reactor.simulator
+        engine.getMetrics().register();
 
         // Dashboard UI
         Dashboard dashboard = new Dashboard(dt);
@@ -53,8 +61,29 @@ public class Main extends Application {
 
         dashboard.setController(controller);
 
-        // Listener for real-time graph updates
-        engine.addListener(dashboard);
+        // -Dreactor.eventLog=<file> also writes the event log to a file
+        String eventLogFile = System.getProperty("reactor.eventLog");
+        if (eventLogFile != null) {
+            try {
+                controller.getEventLog().addFileSink(new File(eventLogFile));
+            } catch (IOException e) {
+                System.err.println("Cannot open event log file " + eventLogFile + ": " + e.getMessage());
+            }
+        }
+
+        // -Dreactor.telemetryPort=<port> also serves the simulation to local WebSocket clients
+        String telemetryPort = System.getProperty("reactor.telemetryPort");
+        if (telemetryPort != null) {
+            try {
+                telemetryServer = new TelemetryServer(controller, engine,
+                        new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(telemetryPort)), 20.0);
+            } catch (IOException | NumberFormatException e) {
+                System.err.println("Cannot start telemetry server on port " + telemetryPort + ": " + e.getMessage());
+            }
+        }
+
+        // Real-time graph updates: setContext() attached the dashboard to the engine's sample feed,
+        // which it drains once per frame
 
         // ---------------------------------------------------------------
         // Optional: Auto-start simulation
@@ -67,6 +96,11 @@ public class Main extends Application {
         primaryStage.show();
     }
 
+    @Override
+    public void stop() {
+        if (telemetryServer != null) telemetryServer.close();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,248 @@
+package com.reactor.simulator;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Time-series plot drawn on a Canvas. Each pixel column shows the min/max of the samples that fall
+ * into it (looked up through {@link TimeSeriesWindow}'s segment tree), so a redraw costs
+ * O(width * log n) regardless of how many samples the window holds. Threshold overlays are dashed
+ * horizontal lines. Call {@link #redraw()} on the FX thread when the data changed.
+ */
+public class TimeSeriesCanvas extends Pane {
+    private static final double LEFT = 56, RIGHT = 12, TOP = 26, BOTTOM = 30;
+    private static final Font TITLE_FONT = Font.font(13);
+    private static final Font LABEL_FONT = Font.font(11);
+
+    private final Canvas canvas = new Canvas();
+    private final String title;
+    private final String yLabel;
+    private final double windowSeconds;
+    private final List<Trace> traces = new ArrayList<>();
+    private final List<Threshold> thresholds = new ArrayList<>();
+
+    private static final class Trace {
+        final TimeSeriesWindow window;
+        final String name;
+        final Color color;
+
+        Trace(TimeSeriesWindow window, String name, Color color) {
+            this.window = window;
+            this.name = name;
+            this.color = color;
+        }
+    }
+
+    private static final class Threshold {
+        final DoubleSupplier value;
+        final String name;
+        final Color color;
+
+        Threshold(DoubleSupplier value, String name, Color color) {
+            this.value = value;
+            this.name = name;
+            this.color = color;
+        }
+    }
+
+    public TimeSeriesCanvas(String title, String yLabel, double windowSeconds) {
+        this.title = title;
+        this.yLabel = yLabel;
+        this.windowSeconds = windowSeconds;
+        getChildren().add(canvas);
+        setMinHeight(200);
+        setPrefHeight(260);
+    }
+
+    public void addSeries(TimeSeriesWindow window, String name, Color color) {
+        traces.add(new Trace(window, name, color));
+    }
+
+    public void addThreshold(DoubleSupplier value, String name, Color color) {
+        thresholds.add(new Threshold(value, name, color));
+    }
+
+    @Override
+    protected void layoutChildren() {
+        if (canvas.getWidth() != getWidth() || canvas.getHeight() != getHeight()) {
+            canvas.setWidth(getWidth());
+            canvas.setHeight(getHeight());
+            redraw();
+        }
+    }
+
+    public void redraw() {
+        double w = canvas.getWidth(), h = canvas.getHeight();
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(Color.WHITE);
+        gc.fillRect(0, 0, w, h);
+        double plotW = w - LEFT - RIGHT, plotH = h - TOP - BOTTOM;
+        if (plotW < 10 || plotH < 10) return;
+
+        // x range: the window ending at the newest sample
+        double tEnd = Double.NEGATIVE_INFINITY;
+        for (Trace tr : traces) if (!tr.window.isEmpty()) tEnd = Math.max(tEnd, tr.window.getLastTime());
+        if (tEnd == Double.NEGATIVE_INFINITY) tEnd = 0.0;
+        double tStart = Math.max(0.0, tEnd - windowSeconds);
+        if (tEnd - tStart < 1e-9) tEnd = tStart + 1.0;
+
+        // y range: everything visible, thresholds included
+        double yMin = Double.POSITIVE_INFINITY, yMax = Double.NEGATIVE_INFINITY;
+        for (Trace tr : traces) {
+            TimeSeriesWindow win = tr.window;
+            int from = win.lowerBound(tStart);
+            if (from < win.size()) {
+                yMin = Math.min(yMin, win.rangeMin(from, win.size()));
+                yMax = Math.max(yMax, win.rangeMax(from, win.size()));
+            }
+        }
+        for (Threshold th : thresholds) {
+            double v = th.value.getAsDouble();
+            yMin = Math.min(yMin, v);
+            yMax = Math.max(yMax, v);
+        }
+        if (yMin > yMax) { yMin = 0; yMax = 1; }
+        double pad = Math.max(1e-6, (yMax - yMin) * 0.05);
+        double yStep = niceStep((yMax - yMin + 2 * pad) / 6);
+        yMin = Math.floor((yMin - pad) / yStep) * yStep;
+        yMax = Math.ceil((yMax + pad) / yStep) * yStep;
+
+        drawAxes(gc, tStart, tEnd, yMin, yMax, yStep, plotW, plotH);
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(LEFT, TOP, plotW, plotH);
+        gc.clip();
+        for (Threshold th : thresholds) {
+            double y = yToPixel(th.value.getAsDouble(), yMin, yMax, plotH);
+            gc.setStroke(th.color);
+            gc.setLineWidth(1.0);
+            gc.setLineDashes(6, 4);
+            gc.strokeLine(LEFT, y, LEFT + plotW, y);
+        }
+        gc.setLineDashes();
+        for (Trace tr : traces) drawTrace(gc, tr, tStart, tEnd, yMin, yMax, plotW, plotH);
+        gc.restore();
+
+        drawLegend(gc, w);
+    }
+
+    private void drawTrace(GraphicsContext gc, Trace tr, double tStart, double tEnd,
+                           double yMin, double yMax, double plotW, double plotH) {
+        TimeSeriesWindow win = tr.window;
+        int columns = (int) Math.ceil(plotW);
+        double secondsPerPx = (tEnd - tStart) / plotW;
+        gc.setStroke(tr.color);
+        gc.setLineWidth(1.5);
+        gc.beginPath();
+        boolean started = false;
+        int i0 = win.lowerBound(tStart);
+        for (int px = 0; px < columns && i0 < win.size(); px++) {
+            int i1 = win.lowerBound(tStart + (px + 1) * secondsPerPx);
+            if (px == columns - 1) i1 = win.size();
+            if (i1 <= i0) continue;
+            double x = LEFT + px + 0.5;
+            double first = yToPixel(win.getValue(i0), yMin, yMax, plotH);
+            double last = yToPixel(win.getValue(i1 - 1), yMin, yMax, plotH);
+            if (!started) {
+                gc.moveTo(x, first);
+                started = true;
+            } else {
+                gc.lineTo(x, first);
+            }
+            if (i1 - i0 > 1) {
+                // screen y grows downwards, so the max is the top pixel
+                gc.lineTo(x, yToPixel(win.rangeMax(i0, i1), yMin, yMax, plotH));
+                gc.lineTo(x, yToPixel(win.rangeMin(i0, i1), yMin, yMax, plotH));
+                gc.lineTo(x, last);
+            }
+            i0 = i1;
+        }
+        gc.stroke();
+    }
+
+    private void drawAxes(GraphicsContext gc, double tStart, double tEnd, double yMin, double yMax,
+                          double yStep, double plotW, double plotH) {
+        gc.setFill(Color.BLACK);
+        gc.setFont(TITLE_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.TOP);
+        gc.fillText(title, LEFT + plotW / 2, 4);
+
+        gc.setFont(LABEL_FONT);
+        gc.setLineWidth(1.0);
+        gc.setStroke(Color.GAINSBORO);
+
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.setTextBaseline(VPos.CENTER);
+        for (double v = yMin; v <= yMax + yStep * 1e-6; v += yStep) {
+            double y = yToPixel(v, yMin, yMax, plotH);
+            gc.strokeLine(LEFT, y, LEFT + plotW, y);
+            gc.fillText(formatTick(v, yStep), LEFT - 4, y);
+        }
+
+        double tStep = niceStep((tEnd - tStart) / 8);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.TOP);
+        for (double t = Math.ceil(tStart / tStep) * tStep; t <= tEnd; t += tStep) {
+            double x = LEFT + (t - tStart) / (tEnd - tStart) * plotW;
+            gc.strokeLine(x, TOP, x, TOP + plotH);
+            gc.fillText(formatTick(t, tStep), x, TOP + plotH + 3);
+        }
+        gc.fillText("Time (s)", LEFT + plotW / 2, TOP + plotH + 16);
+
+        gc.setStroke(Color.GRAY);
+        gc.strokeRect(LEFT, TOP, plotW, plotH);
+
+        gc.save();
+        gc.translate(12, TOP + plotH / 2);
+        gc.rotate(-90);
+        gc.fillText(yLabel, 0, -6);
+        gc.restore();
+    }
+
+    private void drawLegend(GraphicsContext gc, double w) {
+        gc.setFont(LABEL_FONT);
+        gc.setTextAlign(TextAlignment.RIGHT);
+        gc.setTextBaseline(VPos.TOP);
+        double x = w - RIGHT - 4;
+        for (int i = thresholds.size() - 1; i >= 0; i--) x = legendEntry(gc, x, thresholds.get(i).name, thresholds.get(i).color);
+        for (int i = traces.size() - 1; i >= 0; i--) x = legendEntry(gc, x, traces.get(i).name, traces.get(i).color);
+    }
+
+    private double legendEntry(GraphicsContext gc, double x, String name, Color color) {
+        gc.setFill(Color.BLACK);
+        gc.fillText(name, x, TOP + 4);
+        double textW = name.length() * 6.5;
+        gc.setFill(color);
+        gc.fillRect(x - textW - 12, TOP + 8, 10, 3);
+        return x - textW - 24;
+    }
+
+    private double yToPixel(double v, double yMin, double yMax, double plotH) {
+        return TOP + (yMax - v) / (yMax - yMin) * plotH;
+    }
+
+    private static double niceStep(double raw) {
+        if (!(raw > 0)) return 1.0;
+        double mag = Math.pow(10, Math.floor(Math.log10(raw)));
+        double f = raw / mag;
+        double nice = f <= 1 ? 1 : f <= 2 ? 2 : f <= 5 ? 5 : 10;
+        return nice * mag;
+    }
+
+    private static String formatTick(double v, double step) {
+        if (step >= 1) return Long.toString(Math.round(v));
+        int decimals = (int) Math.ceil(-Math.log10(step));
+        return String.format("%." + decimals + "f", v);
+    }
+}